@@ -0,0 +1,58 @@
+package com.elvenide.core.providers.text;
+
+/**
+ * Realistic messages used by the text benchmarks.
+ */
+final class TextCorpus {
+
+    private TextCorpus() {}
+
+    /// Short chat and system messages, as sent many times per tick
+    static final String[] CHAT = {
+        "<green>Steve joined the game.",
+        "<gray>[<gold>VIP</gold>] <white>Alex</white>: <reset>anyone up for a round of bedwars?",
+        "<red>You do not have permission to use this.",
+        "&7[&bShop&7] &aPurchased &e16x Oak Planks &afor &6$32.50",
+        "§cYou cannot break blocks in spawn!",
+        "<yellow>Teleporting in <bold>3</bold> seconds...",
+        "<hover:show_text:'<gray>Click to accept'><click:run_command:'/tpaccept'><green>[Accept]</click></hover>",
+        "Plain message without any tags at all",
+    };
+
+    /// Long, heavily styled item lore, with one line per element
+    static final String[] LORE = {
+        "<gray>A blade forged in the depths of the <dark_red>Nether</dark_red>, tempered by <gold>blazing fire</gold>.",
+        "",
+        "<gray>Damage: <red>+12</red> <dark_gray>(<green>+3</green> from enchantments)",
+        "<gray>Attack Speed: <yellow>1.6",
+        "<gray>Durability: <white>1561</white><dark_gray>/</dark_gray><white>1561",
+        "",
+        "<gold><bold>ABILITY: Inferno Slash</bold> <yellow><bold>RIGHT CLICK",
+        "<gray>Unleash a wave of flame dealing <red>250%</red> weapon damage",
+        "<gray>to all enemies within <green>6</green> blocks. Enemies hit are set",
+        "<gray>ablaze for <green>4s</green> and take <red>+15%</red> damage from fire.",
+        "<dark_gray>Mana Cost: <dark_aqua>80",
+        "<dark_gray>Cooldown: <green>12s",
+        "",
+        "&6&lLEGENDARY SWORD",
+    };
+
+    /// Titles and scoreboard lines using many gradients and shadows
+    static final String[] GRADIENT_TITLES = {
+        "<gradient:red:gold>Welcome to the Arena</gradient>",
+        "<gradient:#ff0000:#ff8000:#ffff00:#00ff00:#0000ff:#8000ff>Rainbow Champion of the Season</gradient>",
+        "<egradient:bright_red:orange:0.5><bold>KILLSTREAK x12</bold></egradient>",
+        "<shadow:black:0.5><gradient:aqua:light_blue>Round 4</gradient> <gray>- <gradient:green:dark_green>Kills: 7</gradient>",
+        "<eshadow:indigo><gradient:smooth_purple:pink>Mythic Drop!</gradient></eshadow>",
+    };
+
+    /// Templates with placeholders, as used by lang keys
+    static final String[] FORMAT_TEMPLATES = {
+        "<green>{} joined the game.",
+        "<gray>{} has <gold>{}</gold> coins and <aqua>{}</aqua> gems.",
+        "Missing argument: '%s'. Hover to see command syntax.",
+        "<yellow>Balance: %.2f <gray>({} transactions)",
+        "No placeholders here at all",
+    };
+
+}
@@ -0,0 +1,61 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the String processing steps performed before and around MiniMessage parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextProcessingBenchmark {
+
+    private static final Object[] NO_PLACEHOLDERS = new Object[0];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (TextProvider.customColors().isEmpty())
+            Core.text.packages.install();
+    }
+
+    @Benchmark
+    public void format(Blackhole blackhole) {
+        blackhole.consume(Core.text.format(TextCorpus.FORMAT_TEMPLATES[0], "Steve"));
+        blackhole.consume(Core.text.format(TextCorpus.FORMAT_TEMPLATES[1], "Alex", 1250, 37));
+        blackhole.consume(Core.text.format(TextCorpus.FORMAT_TEMPLATES[2], "player"));
+        blackhole.consume(Core.text.format(TextCorpus.FORMAT_TEMPLATES[3], 1234.5678, 12));
+        blackhole.consume(Core.text.format(TextCorpus.FORMAT_TEMPLATES[4], "unused"));
+    }
+
+    @Benchmark
+    public void preParsing(Blackhole blackhole) {
+        for (String line : TextCorpus.CHAT)
+            blackhole.consume(TextProvider.preParsing(line, NO_PLACEHOLDERS));
+        for (String line : TextCorpus.GRADIENT_TITLES)
+            blackhole.consume(TextProvider.preParsing(line, NO_PLACEHOLDERS));
+    }
+
+    @Benchmark
+    public void legacyConversion(Blackhole blackhole) {
+        for (String line : TextCorpus.CHAT)
+            blackhole.consume(LegacyColorConverter.convert(line));
+        for (String line : TextCorpus.LORE)
+            blackhole.consume(LegacyColorConverter.convert(line));
+    }
+
+    @Benchmark
+    public void stripTags(Blackhole blackhole) {
+        for (String line : TextCorpus.CHAT)
+            blackhole.consume(Core.text.stripTags(line));
+        for (String line : TextCorpus.GRADIENT_TITLES)
+            blackhole.consume(Core.text.stripTags(line));
+    }
+
+}
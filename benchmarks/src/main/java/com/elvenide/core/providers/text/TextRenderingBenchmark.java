@@ -0,0 +1,65 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks deserialization of messages using {@link TextProvider#from(Object, Object...)}.
+ * <p>
+ * Each benchmark runs with the template cache both disabled (measuring the full parse)
+ * and enabled (measuring repeated sends of the same message).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextRenderingBenchmark {
+
+    @Param({"0", "512"})
+    public int templateCacheSize;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (TextProvider.customColors().isEmpty())
+            Core.text.packages.install();
+
+        Core.text.templates.setMaxSize(templateCacheSize);
+        Core.text.templates.clear();
+    }
+
+    @Benchmark
+    public void chat(Blackhole blackhole) {
+        for (String line : TextCorpus.CHAT)
+            blackhole.consume(Core.text.from(line));
+    }
+
+    @Benchmark
+    public void lore(Blackhole blackhole) {
+        for (String line : TextCorpus.LORE)
+            blackhole.consume(Core.text.from(line));
+    }
+
+    @Benchmark
+    public void gradientTitles(Blackhole blackhole) {
+        for (String line : TextCorpus.GRADIENT_TITLES)
+            blackhole.consume(Core.text.from(line));
+    }
+
+    @Benchmark
+    public void chatWithPlaceholders(Blackhole blackhole) {
+        blackhole.consume(Core.text.from(TextCorpus.FORMAT_TEMPLATES[0], "Steve"));
+        blackhole.consume(Core.text.from(TextCorpus.FORMAT_TEMPLATES[1], "Alex", 1250, 37));
+    }
+
+    @Benchmark
+    public Component loreAsSingleMessage() {
+        return Core.text.from(String.join("<br>", TextCorpus.LORE));
+    }
+
+}
@@ -12,6 +12,10 @@ public interface CoreCancellable {
 
     /**
      * Sets the event as cancelled, preventing later-priority handlers marked "ignoreCancelled" from running.
+     * <p>
+     * Only has an effect when called by a handler of this event while it is being dispatched.
+     * Cancellation applies only to this dispatch of this exact event instance, so equal events dispatched
+     * at the same time (or later) are not affected.
      * @param cancelled Whether the event is cancelled
      */
     @PublicAPI
@@ -1,6 +1,10 @@
 package com.elvenide.core.providers.event;
 
 import com.elvenide.core.api.PublicAPI;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a custom ElvenideCore event that can be handled by registered {@link CoreListener CoreListener}s.
@@ -28,4 +32,45 @@ public interface CoreEvent {
         return isCancelled ? CoreEventResult.CANCELLED : CoreEventResult.COMPLETED;
     }
 
+    /**
+     * Calls this event as a CoreEvent asynchronously, without blocking the calling thread.
+     * <p>
+     * Handlers still run one at a time, in order of priority, but each runs on the thread chosen by its
+     * {@link CoreEventHandler#thread()}: the server's main thread by default,
+     * or the asynchronous event executor (see {@link #setAsyncExecutor(Executor)}) for handlers that opt into it.
+     * @return A future completed with the result of the event once all handlers have run,
+     * or completed exceptionally if a handler threw an exception
+     * @since 25.2
+     */
+    @PublicAPI
+    default CompletableFuture<CoreEventResult> callCoreEventAsync() {
+        return callCoreEventAsync(CoreEventManager.getAsyncExecutor());
+    }
+
+    /**
+     * Calls this event as a CoreEvent asynchronously, running asynchronous handlers on the given executor.
+     * @param executor The executor (e.g. a bounded thread pool)
+     * @return A future completed with the result of the event once all handlers have run,
+     * or completed exceptionally if a handler threw an exception
+     * @see #callCoreEventAsync()
+     * @since 25.2
+     */
+    @PublicAPI
+    default CompletableFuture<CoreEventResult> callCoreEventAsync(@NotNull Executor executor) {
+        return CoreEventManager.callAsync(this, executor)
+            .thenApply(isCancelled -> isCancelled ? CoreEventResult.CANCELLED : CoreEventResult.COMPLETED);
+    }
+
+    /**
+     * Sets the executor used by {@link #callCoreEventAsync()}.
+     * <p>
+     * By default, each asynchronous call runs on a new virtual thread.
+     * @param executor The executor (e.g. a bounded thread pool)
+     * @since 25.2
+     */
+    @PublicAPI
+    static void setAsyncExecutor(@NotNull Executor executor) {
+        CoreEventManager.setAsyncExecutor(executor);
+    }
+
 }
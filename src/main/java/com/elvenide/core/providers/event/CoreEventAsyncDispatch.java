@@ -0,0 +1,93 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.Core;
+import org.bukkit.Bukkit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/// Used internally to dispatch a CoreEvent asynchronously, running each handler on the thread it requires.
+/// Handlers run on the main thread unless they opt into {@link CoreEventThread#ASYNC}, so only those run on the executor.
+final class CoreEventAsyncDispatch implements Runnable {
+
+    private final CoreEvent event;
+    private final CoreEventExecutor[] executors;
+    private final int resultStart;
+    private final Executor executor;
+    private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+    private final CoreEventDispatch state;
+
+    /// Index of the next handler to run; handlers run one at a time, so no synchronization is needed
+    private int index = 0;
+    private boolean onMainThread = false;
+    private Boolean resultCancelled = null;
+
+    CoreEventAsyncDispatch(CoreEvent event, CoreEventExecutor[] executors, int resultStart, Executor executor) {
+        this.event = event;
+        this.executors = executors;
+        this.resultStart = resultStart;
+        this.executor = executor;
+        this.state = new CoreEventDispatch(event);
+    }
+
+    /// Starts the dispatch on the executor
+    CompletableFuture<Boolean> start() {
+        try {
+            executor.execute(this);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /// Continues the dispatch on the main thread or the executor, returning true if it was moved
+    private boolean moveTo(CoreEventThread thread) {
+        if (thread == CoreEventThread.MAIN && !onMainThread && !Bukkit.isPrimaryThread()) {
+            onMainThread = true;
+            Core.tasks.create(task -> run()).schedule();
+            return true;
+        }
+
+        if (thread == CoreEventThread.ASYNC && onMainThread) {
+            onMainThread = false;
+            executor.execute(this);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (index < executors.length) {
+                // RESULT handlers cannot change the cancellation state
+                if (index == resultStart && resultCancelled == null)
+                    resultCancelled = state.cancelled;
+
+                CoreEventExecutor handler = executors[index];
+                boolean cancelled = resultCancelled != null ? resultCancelled : state.cancelled;
+                if (cancelled && handler.getData().ignoreCancelled()) {
+                    index++;
+                    continue;
+                }
+
+                if (moveTo(handler.getData().thread()))
+                    return;
+
+                index++;
+                state.enter();
+                try {
+                    handler.accept(event);
+                } finally {
+                    state.exit();
+                }
+            }
+
+            future.complete(resultCancelled != null ? resultCancelled : state.cancelled);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.Core;
+import com.elvenide.core.providers.task.Task;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/// Used internally to queue events of a single class, and periodically deliver them as a batch.
+final class CoreEventBatcher {
+
+    private final Class<? extends CoreEvent> eventClass;
+    private final Function<CoreEvent, ?> key;
+    private final BinaryOperator<CoreEvent> merge;
+    private final Task task;
+
+    /// Queued events, used when events are not coalesced
+    private ArrayList<CoreEvent> queued = new ArrayList<>();
+
+    /// Queued events by key, used when events are coalesced
+    private LinkedHashMap<Object, CoreEvent> coalesced = new LinkedHashMap<>();
+
+    CoreEventBatcher(Class<? extends CoreEvent> eventClass, long periodTicks, Function<CoreEvent, ?> key, BinaryOperator<CoreEvent> merge) {
+        this.eventClass = eventClass;
+        this.key = key;
+        this.merge = merge;
+        this.task = Core.tasks.create(t -> flush());
+        task.repeat(periodTicks, periodTicks);
+    }
+
+    /// Queues an event, merging it with a queued event of the same key if coalescing
+    synchronized void add(CoreEvent event) {
+        if (key == null)
+            queued.add(event);
+        else
+            coalesced.merge(key.apply(event), event, merge);
+    }
+
+    /// Removes and returns all queued events
+    private synchronized List<CoreEvent> drain() {
+        if (key == null) {
+            if (queued.isEmpty())
+                return List.of();
+
+            List<CoreEvent> batch = queued;
+            queued = new ArrayList<>();
+            return batch;
+        }
+
+        if (coalesced.isEmpty())
+            return List.of();
+
+        List<CoreEvent> batch = new ArrayList<>(coalesced.values());
+        coalesced = new LinkedHashMap<>();
+        return batch;
+    }
+
+    /// Delivers all queued events to batch handlers on the main thread, scheduling the delivery if called from another thread
+    void flush() {
+        // Drained on the main thread too, so batches are delivered in the order they were queued
+        if (!Bukkit.isPrimaryThread()) {
+            Core.tasks.create(t -> flush()).schedule();
+            return;
+        }
+
+        List<CoreEvent> batch = drain();
+        if (!batch.isEmpty())
+            CoreEventManager.deliverBatch(eventClass, List.copyOf(batch));
+    }
+
+    /// Stops periodic delivery, delivering any events that are still queued
+    void stop() {
+        task.cancel();
+        flush();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.api.PublicAPI;
+import com.elvenide.core.providers.plugin.PluginProvider;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Batching of high-frequency {@link CoreEvent}s, which are queued and delivered periodically
+ * (e.g. once per tick) as a single list to batch handlers.
+ * <p>
+ * A batch handler is a {@link CoreEventHandler} method whose parameter is a <code>List</code> of the event class:
+ * <pre>
+ * &#64;CoreEventHandler
+ * public void onStatIncrements(List&lt;StatIncrementEvent&gt; events) { ... }
+ * </pre>
+ * While batching is enabled for an event class, each call of an event is still dispatched immediately to regular
+ * handlers, then queued for batch handlers unless it was cancelled. Batches are delivered on the server's main thread,
+ * in order of handler priority. Batch handlers only receive events of the exact class batching was enabled for.
+ * <p>
+ * <b>To function, this feature requires initialization through {@link PluginProvider#set(JavaPlugin) Core.plugin.set()}.</b>
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@PublicAPI
+public final class CoreEventBatching {
+
+    private CoreEventBatching() {}
+
+    /**
+     * Enables batching of an event class, delivering all queued events periodically.
+     * @param eventClass The event class
+     * @param periodTicks Delay between batches, in ticks (1 delivers a batch every tick)
+     * @param <T> The event type
+     * @since 25.2
+     */
+    @PublicAPI
+    public static <T extends CoreEvent> void enable(@NotNull Class<T> eventClass, long periodTicks) {
+        enable(eventClass, periodTicks, null, null);
+    }
+
+    /**
+     * Enables batching of an event class with coalescing, delivering all queued events periodically.
+     * <p>
+     * Events with the same key are merged into a single event before delivery,
+     * e.g. to combine many stat increments of the same player into one.
+     * @param eventClass The event class
+     * @param periodTicks Delay between batches, in ticks (1 delivers a batch every tick)
+     * @param key Gets the key of an event; events with equal keys are merged
+     * @param merge Merges a queued event with a newer event of the same key
+     * @param <T> The event type
+     * @since 25.2
+     */
+    @PublicAPI
+    @SuppressWarnings("unchecked")
+    public static <T extends CoreEvent> void enable(@NotNull Class<T> eventClass, long periodTicks, Function<? super T, ?> key, BinaryOperator<T> merge) {
+        if (periodTicks < 1)
+            throw new IllegalArgumentException("Batch period must be at least 1 tick");
+
+        if ((key == null) != (merge == null))
+            throw new IllegalArgumentException("Coalescing requires both a key and a merge function");
+
+        CoreEventManager.setBatcher(eventClass, new CoreEventBatcher(
+            eventClass,
+            periodTicks,
+            (Function<CoreEvent, ?>) key,
+            (BinaryOperator<CoreEvent>) merge
+        ));
+    }
+
+    /**
+     * Disables batching of an event class, delivering any events that are still queued.
+     * <p>
+     * If called from another thread, the remaining events are delivered on the main thread shortly after.
+     * @param eventClass The event class
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void disable(@NotNull Class<? extends CoreEvent> eventClass) {
+        CoreEventManager.setBatcher(eventClass, null);
+    }
+
+    /**
+     * Immediately delivers all queued events of an event class, instead of waiting for the next batch.
+     * <p>
+     * If called from another thread, delivery is scheduled on the main thread instead of happening immediately.
+     * @param eventClass The event class
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void flush(@NotNull Class<? extends CoreEvent> eventClass) {
+        CoreEventBatcher batcher = CoreEventManager.getBatcher(eventClass);
+        if (batcher != null)
+            batcher.flush();
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.elvenide.core.providers.event;
+
+/// Used internally to track the state of a single dispatch of a CoreEvent.
+final class CoreEventDispatch {
+
+    /// The innermost dispatch in progress on each thread, linked to the dispatches it is nested in
+    private static final ThreadLocal<CoreEventDispatch> current = new ThreadLocal<>();
+
+    private final CoreEvent event;
+    private CoreEventDispatch parent = null;
+
+    /// Volatile, as asynchronous dispatches may run successive handlers on different threads
+    volatile boolean cancelled = false;
+
+    CoreEventDispatch(CoreEvent event) {
+        this.event = event;
+    }
+
+    /// Makes this the current dispatch of the current thread, until {@link #exit()} is called
+    void enter() {
+        parent = current.get();
+        current.set(this);
+    }
+
+    /// Restores the dispatch this one was nested in
+    void exit() {
+        if (parent == null)
+            current.remove();
+        else
+            current.set(parent);
+        parent = null;
+    }
+
+    /// Finds the innermost dispatch of this exact event instance on the current thread, or null if it is not being dispatched
+    static CoreEventDispatch of(CoreEvent event) {
+        for (CoreEventDispatch dispatch = current.get(); dispatch != null; dispatch = dispatch.parent) {
+            if (dispatch.event == event)
+                return dispatch;
+        }
+        return null;
+    }
+
+}
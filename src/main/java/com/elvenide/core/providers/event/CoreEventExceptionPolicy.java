@@ -0,0 +1,20 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.Core;
+import com.elvenide.core.api.PublicAPI;
+
+/**
+ * Determines what happens when a {@link CoreEventHandler} method throws an exception.
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@PublicAPI
+public enum CoreEventExceptionPolicy {
+
+    /// The exception is rethrown, aborting the dispatch of the event, so later handlers do not run.
+    PROPAGATE,
+
+    /// The exception is logged using {@link Core#log}, and the event continues to be dispatched to later handlers.
+    ISOLATE
+
+}
@@ -1,5 +1,6 @@
 package com.elvenide.core.providers.event;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 interface CoreEventExecutor extends Consumer<CoreEvent> {
@@ -8,4 +9,11 @@ interface CoreEventExecutor extends Consumer<CoreEvent> {
 
     CoreListener getListener();
 
+    Class<? extends CoreEvent> getEventClass();
+
+    /// Whether this executor handles batches of events, see {@link CoreEventBatching}
+    boolean isBatch();
+
+    void acceptBatch(List<? extends CoreEvent> events);
+
 }
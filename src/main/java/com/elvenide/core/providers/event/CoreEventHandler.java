@@ -11,6 +11,16 @@ import java.lang.annotation.Target;
  * Annotates {@link CoreEvent} handler methods within a {@link CoreListener}.
  * <p>
  * Similar to Bukkit's {@link org.bukkit.event.EventHandler @EventHandler}.
+ * <p>
+ * A handler method receives events of its parameter's type, including events of any subclass or implementation
+ * of that type. For example, a handler of <code>CoreEvent</code> receives every event.
+ * Within the same priority, handlers of more specific types are executed first.
+ * <p>
+ * Handler methods declared in superclasses of a listener are also registered, unless the listener's class
+ * overrides them, in which case the overriding method is only a handler if annotated itself.
+ * <p>
+ * A handler method whose parameter is a <code>List</code> of an event class instead receives batches of that exact class,
+ * while batching is enabled for it through {@link CoreEventBatching}.
  * @author <a href="https://github.com/Elvenide">Elvenide</a>
  * @since 0.0.15
  */
@@ -43,4 +53,15 @@ public @interface CoreEventHandler {
      */
     boolean ignoreCancelled() default true;
 
+    /**
+     * The thread this handler method runs on, when its event is called with {@link CoreEvent#callCoreEventAsync()}.
+     * <p>
+     * Handlers of asynchronously called events still run one at a time, in order of priority.
+     * By default, handlers run on the main thread, so they can safely use the Bukkit API;
+     * use {@link CoreEventThread#ASYNC ASYNC} to opt a handler that does not use it into running off the main thread.
+     * @return The thread
+     * @since 25.2
+     */
+    CoreEventThread thread() default CoreEventThread.MAIN;
+
 }
@@ -0,0 +1,188 @@
+package com.elvenide.core.providers.event;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that validates {@link CoreEventHandler @CoreEventHandler} methods at compile time,
+ * and generates a {@link CoreListenerDispatcher} for each class declaring them.
+ * <p>
+ * Registering a listener then uses its generated dispatcher instead of scanning its methods with reflection,
+ * which makes registering many listeners faster. Classes with private handler methods, or which cannot
+ * be accessed from their own package, are still validated but fall back to reflection.
+ * <p>
+ * Enable it by adding ElvenideCore to your compiler's annotation processor path, and naming this processor explicitly
+ * (e.g. Maven's <code>annotationProcessors</code>, or javac's <code>-processor</code>). ElvenideCore does not register it
+ * as a service, so it never runs just because ElvenideCore is on the classpath.
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@ApiStatus.Internal
+public final class CoreEventHandlerProcessor extends AbstractProcessor {
+
+    // Names are used instead of class literals, so the processor never loads ElvenideCore or Bukkit classes
+    private static final String HANDLER = "com.elvenide.core.providers.event.CoreEventHandler";
+    private static final String EVENT = "com.elvenide.core.providers.event.CoreEvent";
+    private static final String DISPATCHER = "com.elvenide.core.providers.event.CoreListenerDispatcher";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+        filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(HANDLER);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement handler = elements.getTypeElement(HANDLER);
+        TypeElement event = elements.getTypeElement(EVENT);
+        if (handler == null || event == null)
+            return false;
+
+        // Group valid handler methods by their declaring class, in source order
+        LinkedHashMap<TypeElement, List<Handler>> classes = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(handler)) {
+            if (element.getKind() != ElementKind.METHOD || !(element.getEnclosingElement() instanceof TypeElement type))
+                continue;
+
+            Handler valid = validate((ExecutableElement) element, event.asType());
+            if (valid != null)
+                classes.computeIfAbsent(type, k -> new ArrayList<>()).add(valid);
+        }
+
+        classes.forEach(this::generate);
+        return false;
+    }
+
+    /// A valid handler method, and the erased type its argument is cast to
+    private record Handler(ExecutableElement method, String parameter) {}
+
+    /// Validates a handler method just as registering its listener would, returning null if it is invalid
+    private Handler validate(ExecutableElement method, TypeMirror event) {
+        String name = method.getSimpleName().toString();
+        if (method.getParameters().size() != 1) {
+            error(method, "Your CoreListener method " + name + " must have exactly one parameter, the event object or list of event objects.");
+            return null;
+        }
+
+        TypeMirror parameter = method.getParameters().getFirst().asType();
+        TypeMirror erased = types.erasure(parameter);
+
+        if (erased.toString().equals(List.class.getName())) {
+            List<? extends TypeMirror> arguments = parameter instanceof DeclaredType declared ? declared.getTypeArguments() : List.of();
+            if (arguments.size() != 1 || arguments.getFirst().getKind() != TypeKind.DECLARED || !types.isAssignable(arguments.getFirst(), event)) {
+                error(method, "Your CoreListener method " + name + " must have a List of a class implementing CoreEvent as its parameter.");
+                return null;
+            }
+        } else if (!types.isAssignable(erased, types.erasure(event))) {
+            error(method, "Your CoreListener method " + name + " must have an object implementing CoreEvent, or a List of such objects, as its parameter.");
+            return null;
+        }
+
+        return new Handler(method, erased.toString());
+    }
+
+    /// Generates the dispatcher of a class, unless any of its handler methods cannot be called from generated code
+    private void generate(TypeElement type, List<Handler> handlers) {
+        if (!type.getKind().isClass() || !isAccessible(type))
+            return;
+
+        for (Handler handler : handlers) {
+            if (handler.method().getModifiers().contains(Modifier.PRIVATE) || !isAccessible(types.asElement(handler.method().getParameters().getFirst().asType()))) {
+                messager.printMessage(Diagnostic.Kind.NOTE, "CoreListener method " + handler.method().getSimpleName() + " is private or has an inaccessible parameter, so " + type.getSimpleName() + " will use reflection instead of a generated dispatcher.", handler.method());
+                return;
+            }
+        }
+
+        PackageElement pkg = elements.getPackageOf(type);
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = binaryName.substring(binaryName.lastIndexOf('.') + 1) + CoreListenerDispatcher.SUFFIX;
+        String listener = types.erasure(type.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed())
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+
+        source.append("@javax.annotation.processing.Generated(\"").append(CoreEventHandlerProcessor.class.getName()).append("\")\n")
+            .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+            .append("public final class ").append(simpleName).append(" implements ").append(DISPATCHER).append("<").append(listener).append("> {\n\n")
+            .append("    @Override\n")
+            .append("    public void handlers(").append(DISPATCHER).append(".Handlers<").append(listener).append("> handlers) {\n");
+
+        for (Handler handler : handlers) {
+            String name = handler.method().getSimpleName().toString();
+            String target = handler.method().getModifiers().contains(Modifier.STATIC) ? listener : "listener";
+            source.append("        handlers.add(\"").append(name).append("\", ").append(handler.parameter()).append(".class, ")
+                .append("(listener, argument) -> ").append(target).append(".").append(name)
+                .append("((").append(handler.parameter()).append(") argument));\n");
+        }
+
+        source.append("    }\n\n}\n");
+
+        String qualifiedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        try (Writer writer = filer.createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Failed to generate the CoreListener dispatcher of " + type.getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /// Checks if a type can be referenced from other classes in its package
+    private boolean isAccessible(Element element) {
+        while (element instanceof TypeElement type) {
+            if (type.getModifiers().contains(Modifier.PRIVATE) || type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS)
+                return false;
+
+            element = type.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.api.PublicAPI;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A snapshot of the metrics of a single {@link CoreEventHandler} method, combined across all registered
+ * instances of its listener class.
+ * @param listenerClass The class declaring the handler method
+ * @param methodName The name of the handler method
+ * @param eventClass The event class handled by the method
+ * @param priority The priority of the handler
+ * @param invocations Number of times the handler was invoked while metrics were enabled
+ * @param totalNanos Total time spent in the handler while metrics were enabled, in nanoseconds
+ * @param maxNanos Longest time spent in a single invocation of the handler, in nanoseconds
+ * @param exceptions Number of exceptions thrown by the handler
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@PublicAPI
+public record CoreEventHandlerStats(
+    Class<?> listenerClass,
+    String methodName,
+    Class<? extends CoreEvent> eventClass,
+    CoreEventPriority priority,
+    long invocations,
+    long totalNanos,
+    long maxNanos,
+    long exceptions
+) {
+
+    /**
+     * Gets the average time spent in a single invocation of the handler.
+     * @return Average time, in nanoseconds (or 0 if never invoked)
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public double averageNanos() {
+        return invocations == 0 ? 0 : (double) totalNanos / invocations;
+    }
+
+}
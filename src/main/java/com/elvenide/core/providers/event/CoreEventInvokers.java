@@ -0,0 +1,101 @@
+package com.elvenide.core.providers.event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/// Used internally to create direct, reflection-free invokers of CoreEvent handler methods.
+final class CoreEventInvokers {
+
+    /// Invokers are stateless, so one is shared by all listeners declaring the same method
+    private static final ConcurrentHashMap<Method, BiConsumer<Object, Object>> invokers = new ConcurrentHashMap<>();
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private CoreEventInvokers() {}
+
+    /// Gets an invoker that calls the handler method with (listener, event)
+    static BiConsumer<Object, Object> get(Method method) {
+        return invokers.computeIfAbsent(method, CoreEventInvokers::create);
+    }
+
+    /// Gets an invoker that calls a generated dispatcher's invoker, rethrowing its exceptions as-is
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> of(CoreListenerDispatcher.Invoker<?> generated) {
+        CoreListenerDispatcher.Invoker<Object> invoker = (CoreListenerDispatcher.Invoker<Object>) generated;
+        return (listener, event) -> {
+            try {
+                invoker.invoke(listener, event);
+            } catch (Throwable e) {
+                throw CoreEventInvokers.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> create(Method method) {
+        if (!method.trySetAccessible())
+            throw new IllegalStateException("Failed to make your CoreListener method " + method.getName() + " accessible to ElvenideCore.");
+
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to make your CoreListener method " + method.getName() + " accessible to ElvenideCore.", e);
+        }
+
+        // Static handlers do not receive the listener instance
+        if (Modifier.isStatic(method.getModifiers()))
+            handle = MethodHandles.dropArguments(handle, 0, method.getDeclaringClass());
+
+        BiConsumer<Object, Object> invoker = createLambda(method, handle);
+        return invoker != null ? invoker : createHandleInvoker(handle);
+    }
+
+    /// Spins a class that calls the method directly, or returns null if the method's class cannot be accessed
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createLambda(Method method, MethodHandle handle) {
+        if (Modifier.isStatic(method.getModifiers()))
+            return null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                INVOKER_TYPE,
+                lookup.unreflect(method),
+                MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0])
+            );
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // e.g. the listener is in another module, which the lambda class would not be allowed to access
+            return null;
+        }
+    }
+
+    /// Creates an invoker that calls the method through a method handle, which is slower than a lambda but still reflection-free
+    private static BiConsumer<Object, Object> createHandleInvoker(MethodHandle handle) {
+        MethodHandle invoker = handle.asType(INVOKER_TYPE);
+        return (listener, event) -> {
+            try {
+                invoker.invokeExact(listener, event);
+            } catch (Throwable e) {
+                // Rethrow as-is, just as the lambda invokers do
+                throw CoreEventInvokers.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(Throwable e) throws T {
+        throw (T) e;
+    }
+
+}
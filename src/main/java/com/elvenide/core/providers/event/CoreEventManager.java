@@ -1,148 +1,564 @@
 package com.elvenide.core.providers.event;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
 
 /// Used internally to manage CoreEvents and their handlers.
 class CoreEventManager {
 
-    private static final HashMap<Class<? extends CoreEvent>, EnumMap<CoreEventPriority, ArrayList<CoreEventExecutor>>> handlers = new HashMap<>();
-    private static final HashMap<CoreCancellable, Boolean> cancellations = new HashMap<>();
+    /// Registered executors of each event class, in registration order; all access must hold its lock
+    private static final HashMap<Class<? extends CoreEvent>, EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>>> handlers = new HashMap<>();
+
+    /// Registered batch executors of each event class, in registration order; all access must hold the handlers lock
+    private static final HashMap<Class<? extends CoreEvent>, EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>>> batchHandlers = new HashMap<>();
+
+    /// Batchers of each event class with batching enabled; all access must hold the handlers lock
+    private static final HashMap<Class<? extends CoreEvent>, CoreEventBatcher> batchers = new HashMap<>();
+
+    /// Registrations of each listener by identity, so unregistering only visits that listener's executors
+    private static final HashMap<ListenerKey, Registration> listeners = new HashMap<>();
+    private static final ReferenceQueue<CoreListener> collected = new ReferenceQueue<>();
+
+    /// Immutable dispatch tables of each called event class, including the handlers of its supertypes;
+    /// whenever handlers change, only the tables including them are rebuilt and replaced, so lookups never lock
+    private static final ConcurrentHashMap<Class<? extends CoreEvent>, DispatchTable> dispatchTables = new ConcurrentHashMap<>();
+
+    /// Generated dispatcher of each listener class, if it was compiled with the CoreEventHandlerProcessor
+    private static final ClassValue<Optional<CoreListenerDispatcher<?>>> dispatchers = new ClassValue<>() {
+        @Override
+        protected Optional<CoreListenerDispatcher<?>> computeValue(Class<?> type) {
+            try {
+                Class<?> dispatcher = Class.forName(type.getName() + CoreListenerDispatcher.SUFFIX, true, type.getClassLoader());
+                return Optional.of((CoreListenerDispatcher<?>) dispatcher.getConstructor().newInstance());
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalStateException("Failed to load the generated dispatcher of your CoreListener " + type.getName() + ".", e);
+            }
+        }
+    };
+
+    /// CoreEvent types of each event class, from most to least specific
+    private static final ClassValue<Set<Class<?>>> eventTypes = new ClassValue<>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            return Collections.unmodifiableSet(getEventTypes(type));
+        }
+    };
+
+    /// Handler methods of each listener class, including those inherited from its superclasses;
+    /// found once per class, so registering further instances only binds executors
+    private static final ClassValue<List<HandlerMethod>> listenerHandlers = new ClassValue<>() {
+        @Override
+        protected List<HandlerMethod> computeValue(Class<?> type) {
+            return findHandlers(type);
+        }
+    };
+
+    /// Executor used by asynchronous event calls, which runs each call on a new virtual thread by default
+    private static volatile Executor asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /// All executors receiving an event class sorted by priority, with RESULT executors starting at the given index,
+    /// and the batcher queueing the event class if batching is enabled
+    private record DispatchTable(CoreEventExecutor[] executors, int resultStart, CoreEventBatcher batcher) {}
+
+    /// A validated handler method of a listener class, shared by all instances of the class
+    private record HandlerMethod(Method method, CoreEventHandler data, Class<? extends CoreEvent> eventClass, boolean batch, BiConsumer<Object, Object> invoker, CoreEventMetrics.Handler metrics) {}
+
+    /// Weak reference to a listener that is equal only to references to the exact same listener instance
+    private static final class ListenerKey extends WeakReference<CoreListener> {
+        private final int hash;
+
+        private ListenerKey(CoreListener listener, ReferenceQueue<CoreListener> queue) {
+            super(listener, queue);
+            this.hash = System.identityHashCode(listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other)
+                return true;
+
+            if (!(other instanceof ListenerKey key))
+                return false;
+
+            CoreListener listener = get();
+            return listener != null && listener == key.get();
+        }
+    }
+
+    /// The executors registered for a listener, which only holds the listener strongly if it was registered strongly
+    private static final class Registration {
+        private final ArrayList<CoreEventExecutor> executors = new ArrayList<>();
+
+        /// Only written, to keep strongly registered listeners reachable
+        @SuppressWarnings("unused")
+        private CoreListener listener = null;
+    }
 
     static void cancel(CoreCancellable coreCancellable, boolean cancelled) {
-        cancellations.put(coreCancellable, cancelled);
+        // Cancelling only has an effect while the event is being dispatched
+        if (coreCancellable instanceof CoreEvent event) {
+            CoreEventDispatch dispatch = CoreEventDispatch.of(event);
+            if (dispatch != null)
+                dispatch.cancelled = cancelled;
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private static HashMap<Class<? extends CoreEvent>, EnumMap<CoreEventPriority, ArrayList<CoreEventExecutor>>> getHandlers(CoreListener listener) {
-        HashMap<Class<? extends CoreEvent>, EnumMap<CoreEventPriority, ArrayList<CoreEventExecutor>>> localHandlers = new HashMap<>();
+    private static ArrayList<CoreEventExecutor> getHandlers(CoreListener listener, boolean weak) {
+        List<HandlerMethod> methods = listenerHandlers.get(listener.getClass());
+        ArrayList<CoreEventExecutor> localHandlers = new ArrayList<>(methods.size());
+
+        for (HandlerMethod method : methods) {
+            localHandlers.add(new CoreEventMethodExecutor(
+                method.data(),
+                method.eventClass(),
+                method.batch(),
+                method.invoker(),
+                method.metrics(),
+                listener,
+                weak
+            ));
+        }
 
-        for (Method method : listener.getClass().getDeclaredMethods()) {
-            CoreEventHandler annotation = method.getAnnotation(CoreEventHandler.class);
-            if (annotation == null)
+        return localHandlers;
+    }
+
+    /// Finds the handler methods of a class and its superclasses, except superclass methods that the class overrides
+    private static List<HandlerMethod> findHandlers(Class<?> type) {
+        ArrayList<HandlerMethod> methods = new ArrayList<>();
+
+        // Inherited handlers first, which were already found when registering any listener of the superclass
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            for (HandlerMethod inherited : listenerHandlers.get(superclass)) {
+                if (!isOverridden(inherited.method(), type))
+                    methods.add(inherited);
+            }
+        }
+
+        methods.addAll(findDeclaredHandlers(type));
+        return List.copyOf(methods);
+    }
+
+    /// Checks if a class declares a method overriding the given superclass method, which is only a handler if annotated itself
+    private static boolean isOverridden(Method method, Class<?> type) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers))
+            return false;
+
+        // Package-private methods can only be overridden from the same runtime package
+        Class<?> declaring = method.getDeclaringClass();
+        if (!Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers)
+            && (!declaring.getPackageName().equals(type.getPackageName()) || declaring.getClassLoader() != type.getClassLoader()))
+            return false;
+
+        Method overriding;
+        try {
+            overriding = type.getDeclaredMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+
+        // A generic override is only found through the bridge javac generates for it, so check the method it forwards to
+        if (overriding.isBridge())
+            overriding = getBridgeTarget(type, overriding);
+
+        return overriding != null && !Modifier.isPrivate(overriding.getModifiers()) && !Modifier.isStatic(overriding.getModifiers());
+    }
+
+    /// Gets the method a class declares that a bridge method forwards to, or null if the bridge only widens visibility
+    private static Method getBridgeTarget(Class<?> type, Method bridge) {
+        Class<?>[] bridgeParameters = bridge.getParameterTypes();
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isBridge() || !method.getName().equals(bridge.getName()) || method.getParameterCount() != bridgeParameters.length)
                 continue;
 
-            if (method.getParameterCount() != 1)
-                throw new IllegalStateException("Your CoreListener method " + method.getName() + " must have exactly one parameter, the event object.");
+            Class<?>[] parameters = method.getParameterTypes();
+            boolean matches = true;
+            for (int i = 0; i < parameters.length && matches; i++)
+                matches = bridgeParameters[i].isAssignableFrom(parameters[i]);
 
-            if (!CoreEvent.class.isAssignableFrom(method.getParameterTypes()[0]))
-                throw new IllegalStateException("Your CoreListener method " + method.getName() + " must have an object implementing CoreEvent as its parameter.");
+            if (matches)
+                return method;
+        }
 
-            if (!method.trySetAccessible())
-                throw new IllegalStateException("Failed to make your CoreListener method " + method.getName() + " accessible to ElvenideCore.");
+        return null;
+    }
 
-            CoreEventExecutor executor = new CoreEventExecutor() {
-                @Override
-                public CoreEventHandler getData() {
-                    return annotation;
+    /// Finds the handler methods declared by a class itself
+    private static List<HandlerMethod> findDeclaredHandlers(Class<?> type) {
+        ArrayList<HandlerMethod> methods = new ArrayList<>();
+
+        // Generated dispatchers were validated at compile time, so only their handler methods need looking up
+        Optional<CoreListenerDispatcher<?>> dispatcher = dispatchers.get(type);
+        if (dispatcher.isPresent()) {
+            dispatcher.get().handlers((name, parameter, invoker) -> {
+                Method method;
+                try {
+                    method = type.getDeclaredMethod(name, parameter);
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalStateException("The generated dispatcher of your CoreListener " + type.getName() + " is outdated, please recompile it.", e);
                 }
 
-                @Override
-                public CoreListener getListener() {
-                    return listener;
-                }
+                methods.add(createHandler(method, method.getAnnotation(CoreEventHandler.class), CoreEventInvokers.of(invoker)));
+            });
+            return methods;
+        }
 
-                @Override
-                public void accept(CoreEvent event) {
-                    try {
-                        method.invoke(listener, method.getParameterTypes()[0].cast(event));
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            };
+        for (Method method : type.getDeclaredMethods()) {
+            // javac copies annotations onto bridge methods of generic overrides, which only forward to the real handler
+            if (method.isBridge() || method.isSynthetic())
+                continue;
 
-            Class<? extends CoreEvent> eventClass = (Class<? extends CoreEvent>) method.getParameterTypes()[0];
-            localHandlers.computeIfAbsent(eventClass, k -> new EnumMap<>(CoreEventPriority.class))
-                .computeIfAbsent(annotation.priority(), k -> new ArrayList<>()).add(executor);
+            CoreEventHandler annotation = method.getAnnotation(CoreEventHandler.class);
+            if (annotation != null)
+                methods.add(createHandler(method, annotation, CoreEventInvokers.get(method)));
         }
 
-        return localHandlers;
+        return methods;
+    }
+
+    /// Validates a handler method
+    @SuppressWarnings("unchecked")
+    private static HandlerMethod createHandler(Method method, CoreEventHandler annotation, BiConsumer<Object, Object> invoker) {
+        if (annotation == null)
+            throw new IllegalStateException("The generated dispatcher of your CoreListener " + method.getDeclaringClass().getName() + " is outdated, please recompile it.");
+
+        if (method.getParameterCount() != 1)
+            throw new IllegalStateException("Your CoreListener method " + method.getName() + " must have exactly one parameter, the event object or list of event objects.");
+
+        Class<?> batchClass = getBatchEventClass(method);
+        boolean batch = batchClass != null;
+        if (!batch && !CoreEvent.class.isAssignableFrom(method.getParameterTypes()[0]))
+            throw new IllegalStateException("Your CoreListener method " + method.getName() + " must have an object implementing CoreEvent, or a List of such objects, as its parameter.");
+
+        Class<? extends CoreEvent> eventClass = (Class<? extends CoreEvent>) (batch ? batchClass : method.getParameterTypes()[0]);
+        return new HandlerMethod(method, annotation, eventClass, batch, invoker, CoreEventMetrics.of(method, eventClass, annotation.priority()));
+    }
+
+    /// Gets the event class of a batch handler's <code>List</code> parameter, or null if the method is not a batch handler
+    private static Class<?> getBatchEventClass(Method method) {
+        if (method.getParameterTypes()[0] != List.class)
+            return null;
+
+        if (!(method.getGenericParameterTypes()[0] instanceof ParameterizedType type)
+            || !(type.getActualTypeArguments()[0] instanceof Class<?> elementClass)
+            || !CoreEvent.class.isAssignableFrom(elementClass))
+            throw new IllegalStateException("Your CoreListener method " + method.getName() + " must have a List of a class implementing CoreEvent as its parameter.");
+
+        return elementClass;
+    }
+
+    /// Gets an event class and all of its supertypes that are also CoreEvents, from most to least specific
+    private static LinkedHashSet<Class<?>> getEventTypes(Class<?> eventClass) {
+        LinkedHashSet<Class<?>> types = new LinkedHashSet<>();
+        ArrayDeque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(eventClass);
+
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (!CoreEvent.class.isAssignableFrom(type) || !types.add(type))
+                continue;
+
+            if (type.getSuperclass() != null)
+                queue.add(type.getSuperclass());
+            queue.addAll(Arrays.asList(type.getInterfaces()));
+        }
+
+        return types;
+    }
+
+    /// Builds the dispatch table of an event class from the handlers of the class and all of its supertypes
+    private static DispatchTable resolve(Class<? extends CoreEvent> eventClass) {
+        ArrayList<EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>>> matching = new ArrayList<>();
+        for (Class<?> type : eventTypes.get(eventClass)) {
+            EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>> executors = handlers.get(type);
+            if (executors != null)
+                matching.add(executors);
+        }
+
+        // Within a priority, handlers of more specific types run first
+        ArrayList<CoreEventExecutor> sorted = new ArrayList<>();
+        int resultStart = 0;
+        for (CoreEventPriority priority : CoreEventPriority.values()) {
+            if (priority == CoreEventPriority.RESULT)
+                resultStart = sorted.size();
+
+            for (EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>> executors : matching)
+                sorted.addAll(executors.getOrDefault(priority, new LinkedHashSet<>()));
+        }
+
+        return new DispatchTable(sorted.toArray(CoreEventExecutor[]::new), resultStart, batchers.get(eventClass));
+    }
+
+    /// Gets all batch executors of an event class sorted by priority; must hold the lock
+    private static CoreEventExecutor[] getBatchExecutors(Class<? extends CoreEvent> eventClass) {
+        EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>> executors = batchHandlers.get(eventClass);
+        if (executors == null)
+            return new CoreEventExecutor[0];
+
+        ArrayList<CoreEventExecutor> sorted = new ArrayList<>();
+        for (LinkedHashSet<CoreEventExecutor> prioritized : executors.values())
+            sorted.addAll(prioritized);
+        return sorted.toArray(CoreEventExecutor[]::new);
     }
 
-    public static void register(CoreListener listener) {
-        HashMap<Class<? extends CoreEvent>, EnumMap<CoreEventPriority, ArrayList<CoreEventExecutor>>> localHandlers = getHandlers(listener);
+    /// Gets the cached dispatch table of an event class, resolving it if this is the first call since handlers changed
+    private static DispatchTable getDispatchTable(Class<? extends CoreEvent> eventClass) {
+        DispatchTable table = dispatchTables.get(eventClass);
+        if (table != null)
+            return table;
 
-        for (Class<? extends CoreEvent> eventClass : localHandlers.keySet()) {
-            for (CoreEventPriority priority : localHandlers.get(eventClass).keySet()) {
-                handlers.computeIfAbsent(eventClass, k -> new EnumMap<>(CoreEventPriority.class))
-                    .computeIfAbsent(priority, k -> new ArrayList<>()).addAll(localHandlers.get(eventClass).get(priority));
+        // Resolve while holding the lock, so a table is never cached after the handlers it was built from have changed
+        synchronized (handlers) {
+            removeCollected();
+            return dispatchTables.computeIfAbsent(eventClass, CoreEventManager::resolve);
+        }
+    }
+
+    /// Rebuilds the cached dispatch tables of every event class receiving any of the given executors,
+    /// replacing each in a single write; must hold the lock
+    private static void refreshTables(Collection<CoreEventExecutor> changed) {
+        HashSet<Class<?>> changedClasses = new HashSet<>();
+        for (CoreEventExecutor executor : changed) {
+            // Batch executors are looked up on delivery, so they are not part of any table
+            if (!executor.isBatch())
+                changedClasses.add(executor.getEventClass());
+        }
+
+        if (changedClasses.isEmpty())
+            return;
+
+        // An event class receives the executors of all of its supertypes, so its subtypes' tables are rebuilt too
+        for (Class<? extends CoreEvent> eventClass : dispatchTables.keySet()) {
+            if (!Collections.disjoint(eventTypes.get(eventClass), changedClasses))
+                dispatchTables.put(eventClass, resolve(eventClass));
+        }
+    }
+
+    /// Removes the executors of a registration from the handlers
+    private static void removeExecutors(Registration registration) {
+        for (CoreEventExecutor executor : registration.executors) {
+            EnumMap<CoreEventPriority, LinkedHashSet<CoreEventExecutor>> executors = (executor.isBatch() ? batchHandlers : handlers).get(executor.getEventClass());
+            if (executors != null && executors.containsKey(executor.getData().priority()))
+                executors.get(executor.getData().priority()).remove(executor);
+        }
+    }
+
+    /// Unregisters weakly registered listeners that have been garbage collected; must hold the lock
+    private static void removeCollected() {
+        ArrayList<CoreEventExecutor> removed = new ArrayList<>();
+        Reference<? extends CoreListener> reference;
+        while ((reference = collected.poll()) != null) {
+            Registration registration = listeners.remove(reference);
+            if (registration != null) {
+                removeExecutors(registration);
+                removed.addAll(registration.executors);
             }
         }
+
+        refreshTables(removed);
+    }
+
+    public static void register(CoreListener listener, boolean weak) {
+        ArrayList<CoreEventExecutor> localHandlers = getHandlers(listener, weak);
+        if (localHandlers.isEmpty())
+            return;
+
+        synchronized (handlers) {
+            removeCollected();
+
+            Registration registration = listeners.get(new ListenerKey(listener, null));
+            if (registration == null) {
+                registration = new Registration();
+                listeners.put(new ListenerKey(listener, collected), registration);
+            }
+
+            // A listener registered strongly at least once is always held strongly
+            if (!weak)
+                registration.listener = listener;
+
+            for (CoreEventExecutor executor : localHandlers) {
+                (executor.isBatch() ? batchHandlers : handlers).computeIfAbsent(executor.getEventClass(), k -> new EnumMap<>(CoreEventPriority.class))
+                    .computeIfAbsent(executor.getData().priority(), k -> new LinkedHashSet<>()).add(executor);
+            }
+            registration.executors.addAll(localHandlers);
+            refreshTables(localHandlers);
+        }
     }
 
     public static void unregister(CoreListener listener) {
-        for (Class<? extends CoreEvent> eventClass : handlers.keySet()) {
-            for (CoreEventPriority priority : handlers.get(eventClass).keySet()) {
-                ArrayList<CoreEventExecutor> executors = handlers.get(eventClass).get(priority);
-                executors.removeIf(executor -> executor.getListener() == listener);
+        synchronized (handlers) {
+            removeCollected();
+
+            Registration registration = listeners.remove(new ListenerKey(listener, null));
+            if (registration != null) {
+                removeExecutors(registration);
+                refreshTables(registration.executors);
             }
         }
     }
 
     public static void unregisterAllWithListener(Class<? extends CoreListener> listenerClass) {
-        for (Class<? extends CoreEvent> eventClass : handlers.keySet()) {
-            for (CoreEventPriority priority : handlers.get(eventClass).keySet()) {
-                ArrayList<CoreEventExecutor> executors = handlers.get(eventClass).get(priority);
-                executors.removeIf(executor -> executor.getListener().getClass() == listenerClass);
+        synchronized (handlers) {
+            removeCollected();
+
+            ArrayList<CoreEventExecutor> removed = new ArrayList<>();
+            Iterator<Map.Entry<ListenerKey, Registration>> iterator = listeners.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<ListenerKey, Registration> entry = iterator.next();
+                CoreListener listener = entry.getKey().get();
+                if (listener == null || listener.getClass() != listenerClass)
+                    continue;
+
+                iterator.remove();
+                removeExecutors(entry.getValue());
+                removed.addAll(entry.getValue().executors);
             }
+
+            refreshTables(removed);
         }
     }
 
     public static void unregisterAll() {
-        handlers.clear();
+        synchronized (handlers) {
+            handlers.clear();
+            batchHandlers.clear();
+            listeners.clear();
+            dispatchTables.clear();
+        }
     }
 
-    private static boolean execute(CoreEventExecutor executor, CoreEvent event, boolean cancelled) {
-        if (cancelled && executor.getData().ignoreCancelled())
-            return true;
+    public static boolean call(CoreEvent event) {
+        DispatchTable table = getDispatchTable(event.getClass());
+        boolean cancelled = table.executors().length != 0 && dispatch(event, table);
 
-        executor.accept(event);
-        if (event instanceof CoreCancellable)
-            cancelled = cancellations.getOrDefault(event, false);
+        // Only events that were not cancelled reach batch handlers
+        if (!cancelled && table.batcher() != null)
+            table.batcher().add(event);
 
         return cancelled;
     }
 
-    public static boolean call(CoreEvent event) {
-        if (!handlers.containsKey(event.getClass()))
+    /// Dispatches an event to the executors of its dispatch table, returning true if it was cancelled
+    private static boolean dispatch(CoreEvent event, DispatchTable table) {
+        CoreEventExecutor[] executors = table.executors();
+
+        // Events that cannot be cancelled need no dispatch state
+        if (!(event instanceof CoreCancellable)) {
+            for (CoreEventExecutor executor : executors)
+                executor.accept(event);
             return false;
+        }
 
-        boolean cancelled = false;
-        EnumMap<CoreEventPriority, ArrayList<CoreEventExecutor>> eventExecutors = handlers.get(event.getClass());
+        CoreEventDispatch dispatch = new CoreEventDispatch(event);
+        dispatch.enter();
+        try {
+            // EARLIEST to LATEST
+            for (int i = 0; i < table.resultStart(); i++) {
+                if (!dispatch.cancelled || !executors[i].getData().ignoreCancelled())
+                    executors[i].accept(event);
+            }
 
-        // EARLIEST
-        for (CoreEventExecutor executor : new ArrayList<>(eventExecutors.getOrDefault(CoreEventPriority.EARLIEST, new ArrayList<>())))
-            cancelled = execute(executor, event, cancelled);
+            // RESULT, which cannot change the cancellation state
+            boolean cancelled = dispatch.cancelled;
+            for (int i = table.resultStart(); i < executors.length; i++) {
+                if (!cancelled || !executors[i].getData().ignoreCancelled())
+                    executors[i].accept(event);
+            }
 
-        // EARLY
-        for (CoreEventExecutor executor : new ArrayList<>(eventExecutors.getOrDefault(CoreEventPriority.EARLY, new ArrayList<>())))
-            cancelled = execute(executor, event, cancelled);
+            return cancelled;
+        } finally {
+            dispatch.exit();
+        }
+    }
+
+    public static CompletableFuture<Boolean> callAsync(CoreEvent event, Executor executor) {
+        DispatchTable table = getDispatchTable(event.getClass());
+        CompletableFuture<Boolean> future = table.executors().length == 0
+            ? CompletableFuture.completedFuture(false)
+            : new CoreEventAsyncDispatch(event, table.executors(), table.resultStart(), executor).start();
 
-        // NORMAL
-        for (CoreEventExecutor executor : new ArrayList<>(eventExecutors.getOrDefault(CoreEventPriority.NORMAL, new ArrayList<>())))
-            cancelled = execute(executor, event, cancelled);
+        if (table.batcher() == null)
+            return future;
 
-        // LATE
-        for (CoreEventExecutor executor : new ArrayList<>(eventExecutors.getOrDefault(CoreEventPriority.LATE, new ArrayList<>())))
-            cancelled = execute(executor, event, cancelled);
+        return future.thenApply(cancelled -> {
+            if (!cancelled)
+                table.batcher().add(event);
+            return cancelled;
+        });
+    }
 
-        // LATEST
-        for (CoreEventExecutor executor : new ArrayList<>(eventExecutors.getOrDefault(CoreEventPriority.LATEST, new ArrayList<>())))
-            cancelled = execute(executor, event, cancelled);
+    static CoreEventBatcher getBatcher(Class<? extends CoreEvent> eventClass) {
+        synchronized (handlers) {
+            return batchers.get(eventClass);
+        }
+    }
 
-        // RESULT
-        for (CoreEventExecutor executor : new ArrayList<>(eventExecutors.getOrDefault(CoreEventPriority.RESULT, new ArrayList<>())))
-            execute(executor, event, cancelled);
+    /// Enables batching of an event class with the given batcher, or disables it if null,
+    /// stopping any previous batcher of the event class
+    static void setBatcher(Class<? extends CoreEvent> eventClass, CoreEventBatcher batcher) {
+        CoreEventBatcher previous;
+        synchronized (handlers) {
+            previous = batcher == null ? batchers.remove(eventClass) : batchers.put(eventClass, batcher);
 
-        // Clear cancellations for this event
-        if (event instanceof CoreCancellable)
-            cancellations.remove(event);
+            // Only the event class itself is batched, not its subtypes
+            if (dispatchTables.containsKey(eventClass))
+                dispatchTables.put(eventClass, resolve(eventClass));
+        }
 
-        return cancelled;
+        // Stopping delivers queued events, so it must not hold the lock
+        if (previous != null)
+            previous.stop();
+    }
+
+    /// Delivers a batch of events to the batch executors of their event class, sorted by priority
+    static void deliverBatch(Class<? extends CoreEvent> eventClass, List<CoreEvent> events) {
+        CoreEventExecutor[] executors;
+        synchronized (handlers) {
+            removeCollected();
+            executors = getBatchExecutors(eventClass);
+        }
+
+        for (CoreEventExecutor executor : executors)
+            executor.acceptBatch(events);
+    }
+
+    static Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    static void setAsyncExecutor(Executor executor) {
+        asyncExecutor = executor;
     }
 
 }
@@ -0,0 +1,82 @@
+package com.elvenide.core.providers.event;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/// Used internally to execute a CoreEvent handler method of a registered listener.
+final class CoreEventMethodExecutor implements CoreEventExecutor {
+
+    private final CoreEventHandler data;
+    private final Class<? extends CoreEvent> eventClass;
+    private final BiConsumer<Object, Object> invoker;
+    private final CoreEventMetrics.Handler metrics;
+    private final boolean batch;
+
+    /// The listener, or null if it was registered weakly
+    private final CoreListener listener;
+    private final WeakReference<CoreListener> weakListener;
+
+    CoreEventMethodExecutor(CoreEventHandler data, Class<? extends CoreEvent> eventClass, boolean batch, BiConsumer<Object, Object> invoker, CoreEventMetrics.Handler metrics, CoreListener listener, boolean weak) {
+        this.data = data;
+        this.eventClass = eventClass;
+        this.invoker = invoker;
+        this.metrics = metrics;
+        this.batch = batch;
+        this.listener = weak ? null : listener;
+        this.weakListener = weak ? new WeakReference<>(listener) : null;
+    }
+
+    @Override
+    public CoreEventHandler getData() {
+        return data;
+    }
+
+    @Override
+    public CoreListener getListener() {
+        return listener != null ? listener : weakListener.get();
+    }
+
+    @Override
+    public Class<? extends CoreEvent> getEventClass() {
+        return eventClass;
+    }
+
+    @Override
+    public boolean isBatch() {
+        return batch;
+    }
+
+    @Override
+    public void accept(CoreEvent event) {
+        invoke(event);
+    }
+
+    @Override
+    public void acceptBatch(List<? extends CoreEvent> events) {
+        invoke(events);
+    }
+
+    /// Invokes the handler method with its argument, either an event or a batch of events
+    private void invoke(Object argument) {
+        CoreListener target = getListener();
+
+        // Weakly registered listener was garbage collected, and is awaiting removal
+        if (target == null)
+            return;
+
+        // Only time handlers while metrics are enabled, so they cost a single field read otherwise
+        long start = CoreEventMetrics.isEnabled() ? System.nanoTime() : Long.MIN_VALUE;
+        try {
+            invoker.accept(target, argument);
+        } catch (Exception e) {
+            // Errors are never handled by the exception policy, and always propagate unchanged
+            if (metrics.recordException(e))
+                throw new RuntimeException(e);
+        } finally {
+            if (start != Long.MIN_VALUE)
+                metrics.recordInvocation(System.nanoTime() - start);
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.Core;
+import com.elvenide.core.api.PublicAPI;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instrumentation of {@link CoreEventHandler} methods, including timing metrics, slow handler warnings,
+ * and how exceptions thrown by handlers are dealt with.
+ * <p>
+ * Timing metrics are disabled by default, and have no cost while disabled.
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@PublicAPI
+public final class CoreEventMetrics {
+
+    /// Metrics of each handler method, shared by all instances of its listener class
+    private static final ConcurrentHashMap<Method, Handler> handlers = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static volatile long slowThresholdNanos = 0;
+    private static volatile CoreEventExceptionPolicy exceptionPolicy = CoreEventExceptionPolicy.PROPAGATE;
+
+    private CoreEventMetrics() {}
+
+    /// Mutable metrics of a single handler method
+    static final class Handler {
+        private final Method method;
+        private final Class<? extends CoreEvent> eventClass;
+        private final CoreEventPriority priority;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder exceptions = new LongAdder();
+
+        private Handler(Method method, Class<? extends CoreEvent> eventClass, CoreEventPriority priority) {
+            this.method = method;
+            this.eventClass = eventClass;
+            this.priority = priority;
+        }
+
+        private String getName() {
+            return method.getDeclaringClass().getName() + "#" + method.getName();
+        }
+
+        /// Records a single invocation, warning if it was slow
+        void recordInvocation(long nanos) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+
+            long threshold = slowThresholdNanos;
+            // The template is constant and its values are placeholders, which bypass the text template cache,
+            // so distinct durations never fill the cache
+            if (threshold > 0 && nanos > threshold)
+                Core.log.warn("CoreEvent handler {} took {}ms to handle {}.", getName(), nanos / 1_000_000.0, eventClass.getSimpleName());
+        }
+
+        /// Records an exception, returning true if it should be rethrown
+        boolean recordException(Exception exception) {
+            exceptions.increment();
+            if (exceptionPolicy == CoreEventExceptionPolicy.PROPAGATE)
+                return true;
+
+            Core.log.err("CoreEvent handler {} threw an exception while handling {}.", exception, getName(), eventClass.getSimpleName());
+            return false;
+        }
+
+        private CoreEventHandlerStats snapshot() {
+            return new CoreEventHandlerStats(
+                method.getDeclaringClass(),
+                method.getName(),
+                eventClass,
+                priority,
+                invocations.sum(),
+                totalNanos.sum(),
+                maxNanos.get(),
+                exceptions.sum()
+            );
+        }
+
+        private void reset() {
+            invocations.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+            exceptions.reset();
+        }
+    }
+
+    /// Gets the metrics of a handler method
+    static Handler of(Method method, Class<? extends CoreEvent> eventClass, CoreEventPriority priority) {
+        return handlers.computeIfAbsent(method, k -> new Handler(method, eventClass, priority));
+    }
+
+    /**
+     * Enables timing metrics of all handlers.
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables timing metrics of all handlers, and slow handler warnings.
+     * Collected metrics are kept until {@link #reset()} is called.
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Checks if timing metrics are enabled.
+     * @return True if enabled
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the time after which a single handler invocation is logged as a warning, while metrics are enabled.
+     * @param thresholdMillis Threshold, in milliseconds, or 0 to disable slow handler warnings
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void setSlowHandlerThreshold(double thresholdMillis) {
+        if (thresholdMillis < 0)
+            throw new IllegalArgumentException("Slow handler threshold cannot be negative");
+
+        slowThresholdNanos = (long) (thresholdMillis * 1_000_000);
+    }
+
+    /**
+     * Sets what happens when a handler throws an exception, whether metrics are enabled or not.
+     * Defaults to {@link CoreEventExceptionPolicy#PROPAGATE}.
+     * @param policy The exception policy
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void setExceptionPolicy(@NotNull CoreEventExceptionPolicy policy) {
+        exceptionPolicy = policy;
+    }
+
+    /**
+     * Gets the current exception policy.
+     * @return The exception policy
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public static @NotNull CoreEventExceptionPolicy getExceptionPolicy() {
+        return exceptionPolicy;
+    }
+
+    /**
+     * Gets a snapshot of the metrics of all handler methods that have been registered.
+     * @return Metrics of each handler method
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public static @NotNull List<CoreEventHandlerStats> getHandlerStats() {
+        ArrayList<CoreEventHandlerStats> stats = new ArrayList<>(handlers.size());
+        for (Handler handler : handlers.values())
+            stats.add(handler.snapshot());
+        return stats;
+    }
+
+    /**
+     * Resets the metrics of all handler methods.
+     * @since 25.2
+     */
+    @PublicAPI
+    public static void reset() {
+        for (Handler handler : handlers.values())
+            handler.reset();
+    }
+
+}
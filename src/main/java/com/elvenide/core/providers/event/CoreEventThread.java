@@ -0,0 +1,28 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.Core;
+import com.elvenide.core.api.PublicAPI;
+
+/**
+ * The thread a {@link CoreEventHandler} runs on, when its event is called with {@link CoreEvent#callCoreEventAsync()}.
+ * <p>
+ * When an event is called with {@link CoreEvent#callCoreEvent()}, all handlers always run on the calling thread.
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@PublicAPI
+public enum CoreEventThread {
+
+    /// Handler runs on the asynchronous event executor, and so cannot use most of the Bukkit API.
+    /// Handlers must opt into this explicitly.
+    ASYNC,
+
+    /**
+     * Handler runs on the server's main thread, and so can use the Bukkit API. This is the default.
+     * <p>
+     * Requires initialization through {@link com.elvenide.core.providers.plugin.PluginProvider#set(org.bukkit.plugin.java.JavaPlugin) Core.plugin.set()},
+     * as the handler is scheduled using {@link Core#tasks}.
+     */
+    MAIN
+
+}
@@ -21,7 +21,21 @@ public interface CoreListener {
      */
     @PublicAPI
     default void register() {
-        CoreEventManager.register(this);
+        CoreEventManager.register(this, false);
+    }
+
+    /**
+     * Registers this core listener while only weakly referencing it, allowing it to receive core events
+     * until it is unregistered or no longer referenced by your code.
+     * <p>
+     * Useful for short-lived listeners (e.g. per-player or per-arena), which are then automatically
+     * unregistered once garbage collected, even if you forget to unregister them.
+     * <b>You must keep a reference to the listener for as long as it should receive events.</b>
+     * @since 25.2
+     */
+    @PublicAPI
+    default void registerWeakly() {
+        CoreEventManager.register(this, true);
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.elvenide.core.providers.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A dispatcher of a {@link CoreListener}'s handler methods, generated at compile time by {@link CoreEventHandlerProcessor}.
+ * <p>
+ * When a listener is registered, its generated dispatcher is used instead of scanning the listener's methods with reflection.
+ * This interface should not directly be referenced or implemented by your code.
+ * @param <L> The listener type
+ * @author <a href="https://github.com/Elvenide">Elvenide</a>
+ * @since 25.2
+ */
+@ApiStatus.Internal
+public interface CoreListenerDispatcher<L> {
+
+    /// Suffix appended to the binary name of a listener class to get the name of its dispatcher
+    String SUFFIX = "_CoreListenerDispatcher";
+
+    /**
+     * Adds all handler methods declared by the listener class.
+     * @param handlers The handlers
+     * @since 25.2
+     */
+    void handlers(@NotNull Handlers<L> handlers);
+
+    /**
+     * Receives the handler methods of a generated dispatcher.
+     * @param <L> The listener type
+     * @since 25.2
+     */
+    @ApiStatus.Internal
+    @FunctionalInterface
+    interface Handlers<L> {
+
+        /**
+         * Adds a handler method.
+         * @param method The method name
+         * @param parameter The method's parameter type
+         * @param invoker Calls the method with (listener, event), or with (listener, list of events) for batch handlers
+         * @since 25.2
+         */
+        void add(@NotNull String method, @NotNull Class<?> parameter, @NotNull Invoker<L> invoker);
+
+    }
+
+    /**
+     * Directly calls a handler method.
+     * @param <L> The listener type
+     * @since 25.2
+     */
+    @ApiStatus.Internal
+    @FunctionalInterface
+    interface Invoker<L> {
+
+        /**
+         * Calls the handler method.
+         * @param listener The listener
+         * @param argument The event, or list of events for batch handlers
+         * @throws Throwable Any exception thrown by the handler method
+         * @since 25.2
+         */
+        void invoke(L listener, Object argument) throws Throwable;
+
+    }
+
+}
@@ -628,7 +628,7 @@ public class ItemBuilder {
     private TextComponent nonItalicWithItalicSupport(String text, BiFunction<@Nullable Player, @NotNull String, @NotNull String> placeholderResolver) {
         return Component.text("")
             .decoration(TextDecoration.ITALIC, false)
-            .append(Core.text.from(text, placeholderResolver));
+            .append(Core.text.from(text, (Player) null, placeholderResolver));
     }
 
     /**
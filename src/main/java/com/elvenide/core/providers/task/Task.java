@@ -208,6 +208,7 @@ public class Task {
      */
     @PublicAPI
     public synchronized BukkitTask schedule() {
+        setup();
         return runnable.runTask(Core.plugin.get());
     }
 
@@ -220,6 +221,7 @@ public class Task {
      */
     @PublicAPI
     public synchronized BukkitTask scheduleAsync() {
+        setup();
         return runnable.runTaskAsynchronously(Core.plugin.get());
     }
 }
@@ -0,0 +1,134 @@
+package com.elvenide.core.providers.text;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent cache with an approximate maximum size, which can be read and written from many threads without locking.
+ * <p>
+ * Each entry records when it was last used. Once the cache grows past its maximum size, a single thread evicts the
+ * least-recently-used entries in one batch, leaving room for further entries before the next eviction.
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 25.2
+ */
+final class BoundedCache<K, V> {
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastUsed;
+
+        private Entry(V value) {
+            this.value = value;
+            this.lastUsed = System.nanoTime();
+        }
+    }
+
+    /// An entry considered for eviction
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastUsed) {}
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /// Ensures only one thread evicts at a time; others skip eviction rather than wait for it
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile int maxSize;
+
+    BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /// Gets a cached value, or null if it is not cached
+    @Nullable V get(@NotNull K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        entry.lastUsed = System.nanoTime();
+        hits.increment();
+        return entry.value;
+    }
+
+    /// Caches a value, evicting least-recently-used values if the cache is full
+    void put(@NotNull K key, @NotNull V value) {
+        int max = maxSize;
+        if (max <= 0)
+            return;
+
+        entries.put(key, new Entry<>(value));
+
+        // Evict an eighth of the cache at once, so eviction is only occasional
+        if (entries.size() > max)
+            evict(max - max / 8);
+    }
+
+    /// Evicts least-recently-used entries until at most the given number remain
+    private void evict(int remaining) {
+        if (!evicting.compareAndSet(false, true))
+            return;
+
+        try {
+            int excess = entries.size() - remaining;
+            if (excess <= 0)
+                return;
+
+            // Snapshot when entries were last used, since other threads keep updating it while sorting
+            ArrayList<Candidate<K, V>> oldest = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> oldest.add(new Candidate<>(key, entry, entry.lastUsed)));
+            oldest.sort(Comparator.comparingLong(Candidate::lastUsed));
+
+            for (int i = 0; i < excess && i < oldest.size(); i++) {
+                // Only remove the exact entry, not one that was cached again since
+                if (entries.remove(oldest.get(i).key(), oldest.get(i).entry()))
+                    evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /// Sets the maximum size, evicting least-recently-used values if the cache is now too large
+    void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        if (entries.size() > maxSize)
+            evict(maxSize);
+    }
+
+    /// Removes a cached value, without counting it as an eviction
+    void remove(@NotNull K key) {
+        entries.remove(key);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.elvenide.core.providers.text;
+
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolves gradient and shadow tags whose color arguments may be custom color tag names.
+ * <p>
+ * Custom colors are substituted directly into the arguments of the standard MiniMessage tags,
+ * so the standard tags compute their colors during the original parse, without needing to
+ * pre-process and re-parse the message.
+ * @since 25.2
+ */
+final class ColorTagResolver {
+
+    /// Maximum number of distinct shadow argument lists to keep cached
+    private static final int MAX_CACHED = 512;
+
+    private static final TagResolver STANDARD_GRADIENT = StandardTags.gradient();
+    private static final TagResolver STANDARD_SHADOW = StandardTags.shadowColor();
+
+    /// Resolved shadow tags of a single resolver version
+    private record Shadows(long version, ConcurrentHashMap<List<String>, Tag> tags) {}
+
+    /// Shadow tags only apply a style, so the resolved tag itself is cached;
+    /// replaced by a fresh cache whenever the resolver version changes
+    private static volatile Shadows shadows = new Shadows(-1, new ConcurrentHashMap<>());
+
+    private ColorTagResolver() {}
+
+    /// A single resolved argument
+    private record Argument(@NotNull String value) implements Tag.Argument {}
+
+    /// A queue of arguments with custom colors already resolved
+    private static final class ResolvedArguments implements ArgumentQueue {
+        private final Context context;
+        private final List<String> values;
+        private int index = 0;
+
+        private ResolvedArguments(Context context, List<String> values) {
+            this.context = context;
+            this.values = values;
+        }
+
+        @Override
+        public @NotNull Tag.Argument pop() {
+            return popOr("Missing argument for this tag!");
+        }
+
+        @Override
+        public @NotNull Tag.Argument popOr(@NotNull String errorMessage) {
+            if (!hasNext())
+                throw context.newException(errorMessage, this);
+
+            return new Argument(values.get(index++));
+        }
+
+        @Override
+        public @NotNull Tag.Argument popOr(@NotNull Supplier<String> errorMessage) {
+            if (!hasNext())
+                throw context.newException(errorMessage.get(), this);
+
+            return new Argument(values.get(index++));
+        }
+
+        @Override
+        public @Nullable Tag.Argument peek() {
+            return hasNext() ? new Argument(values.get(index)) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < values.size();
+        }
+
+        @Override
+        public void reset() {
+            index = 0;
+        }
+    }
+
+    /// Gets the shadow cache of the current resolver version, replacing the cache of an older version
+    private static ConcurrentHashMap<List<String>, Tag> shadowCache() {
+        // Read the version before any custom colors, so tags resolved with older colors are never cached as current
+        long version = TextProvider.getResolverVersion();
+        Shadows current = shadows;
+        if (current.version() == version)
+            return current.tags();
+
+        Shadows replacement = new Shadows(version, new ConcurrentHashMap<>());
+        synchronized (ColorTagResolver.class) {
+            // Never replace the cache of a newer version seen by another thread
+            if (shadows.version() < version)
+                shadows = replacement;
+        }
+        return replacement.tags();
+    }
+
+    /// Checks if the queue has at least the given number of arguments, without consuming them
+    static boolean hasArguments(final ArgumentQueue args, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!args.hasNext()) {
+                args.reset();
+                return false;
+            }
+            args.pop();
+        }
+
+        args.reset();
+        return true;
+    }
+
+    private static List<String> popAll(ArgumentQueue args) {
+        ArrayList<String> values = new ArrayList<>();
+        while (args.hasNext())
+            values.add(args.pop().value());
+        return List.copyOf(values);
+    }
+
+    private static List<String> resolveCustomColors(List<String> values) {
+        Map<String, String> colors = TextProvider.customColors();
+        ArrayList<String> resolved = new ArrayList<>(values.size());
+        for (String value : values)
+            resolved.add(colors.getOrDefault(value, value));
+        return List.copyOf(resolved);
+    }
+
+    /// Resolves a gradient tag, with support for custom colors
+    static @Nullable Tag gradient(final ArgumentQueue args, final Context ctx) throws ParsingException {
+        args.popOr("The <egradient> tag requires at least two color arguments; none were provided.");
+        args.popOr("The <egradient> tag requires at least two color arguments; only one was provided.");
+        args.reset();
+
+        return STANDARD_GRADIENT.resolve("gradient", new ResolvedArguments(ctx, resolveCustomColors(popAll(args))), ctx);
+    }
+
+    /// Resolves a shadow tag, with support for custom colors
+    static @Nullable Tag shadow(final ArgumentQueue args, final Context ctx) throws ParsingException {
+        args.popOr("The <eshadow> tag requires a color argument.");
+        args.reset();
+
+        ConcurrentHashMap<List<String>, Tag> cache = shadowCache();
+        List<String> values = popAll(args);
+        Tag tag = cache.get(values);
+        if (tag != null)
+            return tag;
+
+        tag = STANDARD_SHADOW.resolve("shadow", new ResolvedArguments(ctx, resolveCustomColors(values)), ctx);
+        if (tag != null && cache.size() < MAX_CACHED)
+            cache.put(values, tag);
+        return tag;
+    }
+
+    /// Resolves a standard gradient tag, without custom colors
+    static @Nullable Tag standardGradient(final ArgumentQueue args, final Context ctx) throws ParsingException {
+        return STANDARD_GRADIENT.resolve("gradient", args, ctx);
+    }
+
+    /// Resolves a standard shadow tag, without custom colors
+    static @Nullable Tag standardShadow(final ArgumentQueue args, final Context ctx) throws ParsingException {
+        return STANDARD_SHADOW.resolve("shadow", args, ctx);
+    }
+
+}
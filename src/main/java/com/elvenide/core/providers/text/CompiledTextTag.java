@@ -0,0 +1,44 @@
+package com.elvenide.core.providers.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A custom text tag whose text is parsed into a Component once, then inserted as-is wherever the tag is used.
+ * <p>
+ * The text is parsed again only if custom tags have changed since it was last parsed, so text tags can
+ * reference custom tags that are added after them.
+ * @since 25.2
+ */
+final class CompiledTextTag {
+
+    /// A compiled component, along with the resolver version it was compiled with
+    private record Compiled(Component component, long version) {}
+
+    private final String text;
+    private volatile Compiled compiled = null;
+
+    CompiledTextTag(@NotNull String text) {
+        this.text = text;
+    }
+
+    /// Gets the compiled component, compiling it first if it is missing or outdated
+    @NotNull Component component() {
+        long version = TextProvider.getResolverVersion();
+        Compiled current = compiled;
+        if (current != null && current.version() == version)
+            return current.component();
+
+        // Compiling twice on a race is harmless, as both results are identical
+        Component component = TextProvider.compileTextTag(text);
+        compiled = new Compiled(component, version);
+        return component;
+    }
+
+    /// Creates the tag to insert where this text tag is used
+    @NotNull Tag tag() {
+        return Tag.selfClosingInserting(component());
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.elvenide.core.providers.text;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Formatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A format string parsed once into literal text, ElvenideCore (<code>{}</code>) placeholders,
+ * and Java (e.g. <code>%s</code>, <code>%d</code>) placeholders.
+ * <p>
+ * Parsed templates are cached, so repeatedly formatting the same text (e.g. a lang message) only
+ * performs the placeholder substitution.
+ * @since 25.2
+ */
+final class FormatTemplate {
+
+    /// Matches escaped percent signs, Java format placeholders, and custom placeholders
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%%|%([0-9]+[$]|<)*[-#+ 0,(]*[0-9]*([.][0-9]+)?[nbBhHsScCfdoxXeEgGaA]|%[tT][a-zA-Z]|\\{}");
+
+    /// Maximum number of parsed templates to keep cached
+    private static final int MAX_CACHED = 1024;
+
+    private static final BoundedCache<String, FormatTemplate> cache = new BoundedCache<>(MAX_CACHED);
+
+    private sealed interface Segment {}
+
+    /// Text copied to the output as-is
+    private record Literal(String text) implements Segment {}
+
+    /// A <code>{}</code> placeholder, formatted based on the type of its argument
+    private record Custom(int index) implements Segment {}
+
+    /// A Java format placeholder, rewritten to explicitly reference its argument index
+    private record Java(String spec) implements Segment {}
+
+    private final Segment[] segments;
+    private final int literalLength;
+
+    private FormatTemplate(Segment[] segments) {
+        this.segments = segments;
+
+        int length = 0;
+        for (Segment segment : segments) {
+            if (segment instanceof Literal(String text))
+                length += text.length();
+        }
+        this.literalLength = length;
+    }
+
+    /// Gets the parsed form of a template, parsing and caching it if necessary
+    static @NotNull FormatTemplate of(@NotNull String template) {
+        FormatTemplate parsed = cache.get(template);
+        if (parsed != null)
+            return parsed;
+
+        parsed = parse(template);
+        cache.put(template, parsed);
+        return parsed;
+    }
+
+    private static void addLiteral(List<Segment> segments, StringBuilder literal) {
+        if (literal.isEmpty())
+            return;
+
+        segments.add(new Literal(literal.toString()));
+        literal.setLength(0);
+    }
+
+    private static FormatTemplate parse(String template) {
+        ArrayList<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        // Java placeholders share an ordinary index with custom placeholders, as they did when
+        // custom placeholders were converted into Java placeholders
+        int ordinaryIndex = 0;
+        int lastIndex = 0;
+        int copiedUntil = 0;
+
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        while (matcher.find()) {
+            literal.append(template, copiedUntil, matcher.start());
+            copiedUntil = matcher.end();
+            String placeholder = matcher.group();
+
+            // Escaped percent signs
+            if (placeholder.equals("%%")) {
+                literal.append('%');
+                continue;
+            }
+
+            // Custom placeholders
+            if (placeholder.equals("{}")) {
+                addLiteral(segments, literal);
+                lastIndex = ++ordinaryIndex;
+                segments.add(new Custom(lastIndex - 1));
+                continue;
+            }
+
+            // Line separators do not consume an argument
+            if (placeholder.equals("%n")) {
+                literal.append(System.lineSeparator());
+                continue;
+            }
+
+            // Strip explicit (e.g. 1$) and relative (<) argument indices
+            int specStart = 1;
+            boolean explicit = false;
+            boolean relative = false;
+            int explicitIndex = 0;
+            while (specStart < placeholder.length()) {
+                char c = placeholder.charAt(specStart);
+                if (c == '<') {
+                    relative = true;
+                    explicit = false;
+                    specStart++;
+                    continue;
+                }
+
+                int digitsEnd = specStart;
+                while (digitsEnd < placeholder.length() && Character.isDigit(placeholder.charAt(digitsEnd)))
+                    digitsEnd++;
+
+                if (digitsEnd == specStart || digitsEnd >= placeholder.length() || placeholder.charAt(digitsEnd) != '$')
+                    break;
+
+                explicitIndex = Integer.parseInt(placeholder, specStart, digitsEnd, 10);
+                explicit = true;
+                relative = false;
+                specStart = digitsEnd + 1;
+            }
+
+            int index;
+            if (explicit)
+                index = explicitIndex;
+            else if (relative)
+                index = lastIndex;
+            else
+                index = ++ordinaryIndex;
+            lastIndex = index;
+
+            addLiteral(segments, literal);
+            segments.add(new Java("%" + index + "$" + placeholder.substring(specStart)));
+        }
+
+        literal.append(template, copiedUntil, template.length());
+        addLiteral(segments, literal);
+
+        return new FormatTemplate(segments.toArray(new Segment[0]));
+    }
+
+    /// Appends a custom placeholder's value, choosing its format based on its type
+    private static @Nullable Formatter appendCustom(StringBuilder output, @Nullable Formatter formatter, @Nullable Object value) {
+        if (value instanceof Float || value instanceof Double) {
+            formatter = formatter == null ? new Formatter(output) : formatter;
+            formatter.format("%f", value);
+        }
+        else
+            ValueWriter.append(output, value);
+
+        return formatter;
+    }
+
+    /// Formats this template with the given placeholders
+    @NotNull String apply(@Nullable Object[] placeholders) {
+        StringBuilder output = new StringBuilder(literalLength + 16 * placeholders.length);
+        Formatter formatter = null;
+
+        for (Segment segment : segments) {
+            switch (segment) {
+                case Literal(String text) -> output.append(text);
+                case Custom(int index) -> {
+                    // Leave surplus custom placeholders untouched
+                    if (index >= placeholders.length)
+                        output.append("{}");
+                    else
+                        formatter = appendCustom(output, formatter, placeholders[index]);
+                }
+                case Java(String spec) -> {
+                    formatter = formatter == null ? new Formatter(output) : formatter;
+                    formatter.format(spec, placeholders);
+                }
+            }
+        }
+
+        return output.toString();
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.api.PublicAPI;
+import com.elvenide.core.providers.plugin.PluginProvider;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class should not directly be referenced by your code.
+ * Use {@link TextProvider#hud Core.text.hud} instead.
+ * <p>
+ * An optional filter of redundant action bar and title updates, used by {@link TextProvider#sendActionBar(Audience, Object, Object...)}
+ * and {@link TextProvider#sendTitle(Audience, Object, Object)}. Disabled by default.
+ * <p>
+ * While enabled, an action bar or title is only sent to a player if it differs from the one they are currently
+ * seeing, and (optionally) if enough time has passed since their last update. This avoids re-rendering and
+ * re-sending identical packets when a HUD is refreshed every tick.
+ * @since 25.2
+ */
+public class HudThrottle {
+
+    /// How long an action bar stays visible without being sent again, before it should be refreshed
+    private static final long ACTION_BAR_DISPLAY_NANOS = 2_000_000_000L;
+
+    /// Separates title parts when comparing titles
+    private static final char SEPARATOR = '\0';
+
+    /// Content last sent to a player, which is still displayed until it expires
+    private record Sent(String content, long version, long sentAt, long expiresAt) {}
+
+    private final ConcurrentHashMap<UUID, Sent> actionBars = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Sent> titles = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+
+    private volatile boolean enabled = false;
+    private volatile long minIntervalNanos = 0;
+
+    @ApiStatus.Internal
+    HudThrottle() {}
+
+    /// Checks if content should be sent to the audience, and records it as sent if so
+    private boolean shouldSend(ConcurrentHashMap<UUID, Sent> sent, Audience audience, String content, long displayNanos) {
+        if (!enabled)
+            return true;
+
+        // Only individual players can be tracked; groups and the console always receive updates
+        UUID id = audience.get(Identity.UUID).orElse(null);
+        if (id == null)
+            return true;
+
+        long now = System.nanoTime();
+        long version = TextProvider.getResolverVersion();
+        Sent last = sent.get(id);
+        if (last != null) {
+            boolean throttled = now - last.sentAt() < minIntervalNanos;
+            boolean unchanged = last.version() == version && now - last.expiresAt() < 0 && last.content().equals(content);
+            if (throttled || unchanged) {
+                skipped.increment();
+                return false;
+            }
+        }
+
+        sent.put(id, new Sent(content, version, now, now + displayNanos));
+        return true;
+    }
+
+    /// Checks if an action bar should be sent to the audience
+    boolean shouldSendActionBar(@NotNull Audience audience, @NotNull String text) {
+        return shouldSend(actionBars, audience, text, ACTION_BAR_DISPLAY_NANOS);
+    }
+
+    /// Checks if a title should be sent to the audience
+    boolean shouldSendTitle(@NotNull Audience audience, @NotNull String title, @NotNull String subtitle, @NotNull Title.Times times) {
+        String content = title + SEPARATOR + subtitle + SEPARATOR + times.fadeIn().toMillis() + SEPARATOR + times.stay().toMillis();
+        long displayNanos = times.fadeIn().plus(times.stay()).toNanos();
+        return shouldSend(titles, audience, content, displayNanos);
+    }
+
+    /**
+     * Enables filtering of redundant action bar and title updates.
+     * Updates identical to what a player is currently seeing are skipped, and
+     * the state of a player is automatically removed when they leave the server.
+     * <p>
+     * <b>To function, this feature requires initialization through {@link PluginProvider#set(JavaPlugin) Core.plugin.set()}.</b>
+     * @param minIntervalSecs Minimum time between two updates sent to the same player, in seconds, or 0 for no limit.
+     *                        Updates sent sooner are skipped, even if they differ, so your HUD should be refreshed periodically.
+     * @since 25.2
+     */
+    @PublicAPI
+    public synchronized void enable(double minIntervalSecs) {
+        if (minIntervalSecs < 0)
+            throw new IllegalArgumentException("Min interval cannot be negative");
+
+        PlayerQuitListener.register();
+
+        this.minIntervalNanos = (long) (minIntervalSecs * 1_000_000_000L);
+        this.enabled = true;
+    }
+
+    /**
+     * Disables filtering of action bar and title updates, and removes the state of all players.
+     * @since 25.2
+     */
+    @PublicAPI
+    public synchronized void disable() {
+        enabled = false;
+        clear();
+    }
+
+    /**
+     * Checks if filtering of action bar and title updates is enabled.
+     * @return True if enabled
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Forgets what a player was last sent, so their next action bar and title are always sent.
+     * Useful if their HUD was changed by other means (e.g. another plugin).
+     * @param player The player
+     * @since 25.2
+     */
+    @PublicAPI
+    public void invalidate(@NotNull Player player) {
+        actionBars.remove(player.getUniqueId());
+        titles.remove(player.getUniqueId());
+    }
+
+    /**
+     * Forgets what all players were last sent.
+     * Does not reset the skipped counter.
+     * @since 25.2
+     */
+    @PublicAPI
+    public void clear() {
+        actionBars.clear();
+        titles.clear();
+    }
+
+    /**
+     * Gets the number of action bar and title updates that were skipped.
+     * @return Number of skipped updates
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long skipped() {
+        return skipped.sum();
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.elvenide.core.providers.text;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Converts legacy color codes (with either <code>§</code> or <code>&amp;</code> prefixes) to MiniMessage tags
+ * in a single pass over the text.
+ * <p>
+ * Supports the standard color and formatting codes (case-insensitive) and hex colors in the
+ * <code>&amp;#rrggbb</code> format.
+ * @since 25.2
+ */
+final class LegacyColorConverter {
+
+    /// MiniMessage tags indexed by their (lowercase) legacy code character
+    private static final String[] TAGS = new String[128];
+
+    static {
+        TAGS['0'] = "<black>";
+        TAGS['1'] = "<dark_blue>";
+        TAGS['2'] = "<dark_green>";
+        TAGS['3'] = "<dark_aqua>";
+        TAGS['4'] = "<dark_red>";
+        TAGS['5'] = "<dark_purple>";
+        TAGS['6'] = "<gold>";
+        TAGS['7'] = "<gray>";
+        TAGS['8'] = "<dark_gray>";
+        TAGS['9'] = "<blue>";
+        TAGS['a'] = "<green>";
+        TAGS['b'] = "<aqua>";
+        TAGS['c'] = "<red>";
+        TAGS['d'] = "<light_purple>";
+        TAGS['e'] = "<yellow>";
+        TAGS['f'] = "<white>";
+        TAGS['k'] = "<obfuscated>";
+        TAGS['l'] = "<bold>";
+        TAGS['m'] = "<strikethrough>";
+        TAGS['n'] = "<underlined>";
+        TAGS['o'] = "<italic>";
+        TAGS['r'] = "<reset>";
+    }
+
+    private LegacyColorConverter() {}
+
+    private static boolean isPrefix(char c) {
+        return c == '§' || c == '&';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isHexColor(String text, int start) {
+        if (start + 7 > text.length() || text.charAt(start) != '#')
+            return false;
+
+        for (int i = start + 1; i < start + 7; i++) {
+            if (!isHexDigit(text.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private static String tagFor(char code) {
+        if (code >= 'A' && code <= 'Z')
+            code = (char) (code + ('a' - 'A'));
+        return code < TAGS.length ? TAGS[code] : null;
+    }
+
+    /// Gets the length of the legacy code starting at the given index, or 0 if there is none
+    static int codeLength(@NotNull String text, int start) {
+        if (start + 1 >= text.length() || !isPrefix(text.charAt(start)))
+            return 0;
+
+        if (tagFor(text.charAt(start + 1)) != null)
+            return 2;
+
+        return isHexColor(text, start + 1) ? 8 : 0;
+    }
+
+    /// Returns the text with all legacy codes converted, or the original text if it has none
+    static @NotNull String convert(@NotNull String text) {
+        // Fast path: nothing to convert
+        if (text.indexOf('§') < 0 && text.indexOf('&') < 0)
+            return text;
+
+        final int length = text.length();
+        StringBuilder output = null;
+        int copiedUntil = 0;
+
+        for (int i = 0; i < length - 1; i++) {
+            if (!isPrefix(text.charAt(i)))
+                continue;
+
+            char code = text.charAt(i + 1);
+            String tag = tagFor(code);
+            int consumed;
+
+            if (tag != null)
+                consumed = 2;
+            else if (isHexColor(text, i + 1))
+                consumed = 8;
+            else
+                continue;
+
+            if (output == null)
+                output = new StringBuilder(length + 16);
+
+            output.append(text, copiedUntil, i);
+            if (tag != null)
+                output.append(tag);
+            else
+                output.append('<').append(text, i + 1, i + 8).append('>');
+
+            i += consumed - 1;
+            copiedUntil = i + 1;
+        }
+
+        if (output == null)
+            return text;
+
+        return output.append(text, copiedUntil, length).toString();
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.elvenide.core.providers.text;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Lazily renders multi-line text into one Component per line.
+ * <p>
+ * Lines are separated by line breaks or <code>&lt;br&gt;</code>/<code>&lt;newline&gt;</code> tags.
+ * Tags left open at the end of a line are re-opened at the start of the next line, so colors and decorations
+ * carry over just as they would if the whole text was rendered at once. Tags computed over their content, such as
+ * <code>&lt;gradient&gt;</code>, <code>&lt;rainbow&gt;</code> and <code>&lt;transition&gt;</code>, are instead
+ * restarted on each line, spanning only that line's content.
+ * @since 25.2
+ */
+final class LineRenderer implements Iterator<Component> {
+
+    /// Standard tags that are self-closing, and so never carry style state to the next line
+    private static final Set<String> SELF_CLOSING_TAGS = Set.of(
+        "br", "newline", "selector", "sel", "key", "lang", "tr", "translate", "lang_or", "tr_or", "translate_or",
+        "keybind", "score", "nbt", "data", "sprite", "head", "escape"
+    );
+
+    /// A tag that is currently open, along with its full original text
+    private record OpenTag(String name, String text) {}
+
+    private final BufferedReader reader;
+    private final ArrayList<OpenTag> openTags = new ArrayList<>();
+    private final ArrayDeque<String> pending = new ArrayDeque<>();
+    private boolean exhausted = false;
+
+    LineRenderer(@NotNull BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending.isEmpty() && !exhausted)
+            readLine();
+
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public Component next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return TextProvider.deserialize(pending.poll());
+    }
+
+    /// Reads the next physical line, queueing each of its logical (<br> separated) lines
+    private void readLine() {
+        String line;
+        try {
+            line = reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (line == null) {
+            exhausted = true;
+            return;
+        }
+
+        split(LegacyColorConverter.convert(line));
+    }
+
+    private String openTagPrefix() {
+        if (openTags.isEmpty())
+            return "";
+
+        StringBuilder prefix = new StringBuilder();
+        for (OpenTag tag : openTags)
+            prefix.append(tag.text());
+        return prefix.toString();
+    }
+
+    /// Finds the end of the tag starting at the given index, or -1 if it is not a complete tag
+    static int findTagEnd(@NotNull String line, int start) {
+        char quote = 0;
+        for (int i = start + 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == '\\')
+                    i++;
+                else if (c == quote)
+                    quote = 0;
+            }
+            else if (c == '\'' || c == '"')
+                quote = c;
+            else if (c == '>')
+                return i;
+            else if (c == '<')
+                return -1;
+        }
+        return -1;
+    }
+
+    /// Normalizes a tag name, treating ElvenideCore's tags the same as the standard tags they expand to
+    private static String normalize(String name) {
+        name = name.toLowerCase(Locale.ROOT);
+        if (name.startsWith("!"))
+            name = name.substring(1);
+
+        return switch (name) {
+            case "egradient" -> "gradient";
+            case "eshadow" -> "shadow";
+            default -> name;
+        };
+    }
+
+    private void close(String name) {
+        if (name.isEmpty()) {
+            if (!openTags.isEmpty())
+                openTags.removeLast();
+            return;
+        }
+
+        // Closing a tag also closes all tags opened after it
+        for (int i = openTags.size() - 1; i >= 0; i--) {
+            if (openTags.get(i).name().equals(name)) {
+                openTags.subList(i, openTags.size()).clear();
+                return;
+            }
+        }
+    }
+
+    /// Splits a line on its line break tags, tracking which tags are open at the end of each
+    private void split(String line) {
+        String prefix = openTagPrefix();
+        int lineStart = 0;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            // Skip escaped characters
+            if (c == '\\') {
+                i++;
+                continue;
+            }
+
+            if (c != '<')
+                continue;
+
+            int end = findTagEnd(line, i);
+            if (end < 0)
+                continue;
+
+            String inner = line.substring(i + 1, end);
+            boolean closing = inner.startsWith("/");
+            String body = closing ? inner.substring(1) : inner;
+            int nameEnd = body.indexOf(':');
+            String rawName = nameEnd < 0 ? body : body.substring(0, nameEnd);
+            boolean selfClosing = rawName.endsWith("/");
+            String name = normalize(selfClosing ? rawName.substring(0, rawName.length() - 1) : rawName);
+
+            // Ignore text that is not a tag known to MiniMessage or ElvenideCore
+            if (!name.isEmpty() && !TextProvider.hasTag(name))
+                continue;
+
+            if (closing)
+                close(name);
+            else if (name.equals("br") || name.equals("newline")) {
+                pending.add(prefix + line.substring(lineStart, i));
+                prefix = openTagPrefix();
+                lineStart = end + 1;
+            }
+            else if (name.equals("reset"))
+                openTags.clear();
+            else if (!selfClosing && !SELF_CLOSING_TAGS.contains(name) && !TextProvider.isTextTag(name))
+                openTags.add(new OpenTag(name, "<" + inner + ">"));
+
+            i = end;
+        }
+
+        pending.add(prefix + line.substring(lineStart));
+    }
+
+}
@@ -1,7 +1,7 @@
 package com.elvenide.core.providers.text;
 
-import com.elvenide.core.Core;
 import com.elvenide.core.api.PublicAPI;
+import com.elvenide.core.providers.map.CoreMap;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -69,13 +69,28 @@ public class PackageManager {
 
     /**
      * Installs the provided text packages.
+     * <p>
+     * All tags of the packages are added at once, so installing many packages together
+     * is faster than installing them one at a time.
      * @param textPackages The packages
      */
     @PublicAPI
     public void install(TextPackageSupplier... textPackages) {
+        CoreMap<String, String> colorTags = new CoreMap<>();
+        CoreMap<String, String> textTags = new CoreMap<>();
         for (TextPackageSupplier textPackage : textPackages) {
-            textPackage.getColorTags().forEach(Core.text::addColorTag);
-            textPackage.getTextTags().forEach(Core.text::addTextTag);
+            putAllUnique(colorTags, textPackage.getColorTags());
+            putAllUnique(textTags, textPackage.getTextTags());
         }
+
+        TextProvider.addTags(colorTags, textTags);
+    }
+
+    /// Merges tags, rejecting duplicate names just as adding them one by one would
+    private static void putAllUnique(CoreMap<String, String> tags, CoreMap<String, String> added) {
+        added.forEach((name, value) -> {
+            if (tags.putIfAbsent(name, value) != null)
+                throw new IllegalArgumentException("Tag name already in use: " + name);
+        });
     }
 }
@@ -0,0 +1,198 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.api.PublicAPI;
+import com.elvenide.core.providers.plugin.PluginProvider;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * This class should not directly be referenced by your code.
+ * Use {@link TextProvider#placeholders Core.text.placeholders} instead.
+ * <p>
+ * An optional cache of text resolved by third-party placeholder resolvers (e.g. PlaceholderAPI),
+ * stored per player and per text. Disabled by default.
+ * <p>
+ * While enabled, a resolver is only invoked again for the same player and text once the cached value expires,
+ * which greatly reduces the cost of frequently refreshed scoreboards, menus, and item lore.
+ * <p>
+ * Values are cached per resolver instance, so only stable resolvers benefit, such as static method references
+ * (e.g. {@code PlaceholderAPI::setPlaceholders}), non-capturing lambdas, or resolvers stored in a field.
+ * Lambdas that capture variables are a new instance on every call, so they are never cached and are always invoked.
+ * @since 25.2
+ */
+public class PlaceholderCache {
+
+    /// Cache bucket used for text resolved without a player
+    private static final UUID NO_PLAYER = new UUID(0, 0);
+
+    /// Whether instances of a resolver class are lambdas capturing variables, created anew on every call
+    private static final ClassValue<Boolean> capturing = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(@NotNull Class<?> type) {
+            if (!type.isHidden())
+                return false;
+
+            for (Field field : type.getDeclaredFields())
+                if (!Modifier.isStatic(field.getModifiers()))
+                    return true;
+            return false;
+        }
+    };
+
+    private record Key(BiFunction<?, ?, ?> resolver, String text) {}
+
+    private record Entry(String value, long expiresAt) {}
+
+    private final ConcurrentHashMap<UUID, Map<Key, Entry>> players = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile boolean enabled = false;
+    private volatile long timeToLiveNanos = 0;
+    private volatile int maxSizePerPlayer = 0;
+
+    @ApiStatus.Internal
+    PlaceholderCache() {}
+
+    /// Creates a bounded, least-recently-used map of a single player's cached values
+    private Map<Key, Entry> createEntries() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSizePerPlayer;
+            }
+        };
+    }
+
+    /// Resolves placeholders in the text, using a cached value if one has not yet expired
+    @NotNull String resolve(@Nullable Player player, @NotNull String text, @NotNull BiFunction<@Nullable Player, @NotNull String, @NotNull String> placeholderResolver) {
+        // Capturing lambdas would only fill the cache with entries that can never be hit
+        if (!enabled || capturing.get(placeholderResolver.getClass()))
+            return placeholderResolver.apply(player, text);
+
+        UUID id = player == null ? NO_PLAYER : player.getUniqueId();
+        Map<Key, Entry> entries = players.computeIfAbsent(id, k -> createEntries());
+        Key key = new Key(placeholderResolver, text);
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.expiresAt() < 0) {
+                hits.increment();
+                return entry.value();
+            }
+        }
+
+        // Resolve outside the lock, as resolvers may be slow
+        misses.increment();
+        String value = placeholderResolver.apply(player, text);
+        synchronized (entries) {
+            entries.put(key, new Entry(value, now + timeToLiveNanos));
+        }
+        return value;
+    }
+
+    /**
+     * Enables caching of resolved placeholders.
+     * Cached values of a player are automatically removed when they leave the server.
+     * <p>
+     * Only stable resolvers are cached, see {@link PlaceholderCache}.
+     * <p>
+     * <b>To function, this feature requires initialization through {@link PluginProvider#set(JavaPlugin) Core.plugin.set()}.</b>
+     * @param timeToLiveSecs How long a resolved value can be reused, in seconds
+     * @param maxSizePerPlayer Maximum number of resolved values cached for each player
+     * @since 25.2
+     */
+    @PublicAPI
+    public synchronized void enable(double timeToLiveSecs, int maxSizePerPlayer) {
+        if (timeToLiveSecs <= 0)
+            throw new IllegalArgumentException("Time to live must be greater than 0");
+
+        if (maxSizePerPlayer < 1)
+            throw new IllegalArgumentException("Max size per player cannot be less than 1");
+
+        PlayerQuitListener.register();
+
+        this.timeToLiveNanos = (long) (timeToLiveSecs * 1_000_000_000L);
+        this.maxSizePerPlayer = maxSizePerPlayer;
+        this.enabled = true;
+    }
+
+    /**
+     * Disables caching of resolved placeholders, and removes all cached values.
+     * @since 25.2
+     */
+    @PublicAPI
+    public synchronized void disable() {
+        enabled = false;
+        players.clear();
+    }
+
+    /**
+     * Checks if caching of resolved placeholders is enabled.
+     * @return True if enabled
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Removes all cached values of a player, so their placeholders are resolved again on next use.
+     * @param player The player
+     * @since 25.2
+     */
+    @PublicAPI
+    public void invalidate(@NotNull Player player) {
+        players.remove(player.getUniqueId());
+    }
+
+    /**
+     * Removes all cached values of all players.
+     * Does not reset the hit and miss counters.
+     * @since 25.2
+     */
+    @PublicAPI
+    public void clear() {
+        players.clear();
+    }
+
+    /**
+     * Gets the number of times a cached value was used instead of invoking the placeholder resolver.
+     * @return Number of cache hits
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of times the placeholder resolver was invoked while caching was enabled.
+     * Resolvers that are never cached, such as capturing lambdas, are not counted.
+     * @return Number of cache misses
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long misses() {
+        return misses.sum();
+    }
+
+}
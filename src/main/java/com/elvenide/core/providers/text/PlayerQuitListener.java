@@ -0,0 +1,32 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/// Removes the per-player state of the placeholder cache and HUD throttle when a player leaves.
+/// Registered once, when either is first enabled; removing a player's state is a no-op while they are disabled.
+final class PlayerQuitListener implements Listener {
+
+    private static boolean registered = false;
+
+    private PlayerQuitListener() {}
+
+    /// Registers the listener, unless it is already registered
+    static synchronized void register() {
+        if (registered)
+            return;
+
+        Core.plugin.registerListeners(new PlayerQuitListener());
+        registered = true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        Core.text.placeholders.invalidate(event.getPlayer());
+        Core.text.hud.invalidate(event.getPlayer());
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.api.PublicAPI;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This class should not directly be referenced by your code.
+ * Use {@link TextProvider#serialized Core.text.serialized} instead.
+ * <p>
+ * A bounded cache of serialized Components, used by {@link TextProvider#toString(Component)},
+ * {@link TextProvider#toLegacyString(Component)}, and {@link TextProvider#toPlainString(Component)}.
+ * <p>
+ * Components are immutable, so they are cached by identity (not by equality, which would require walking the
+ * entire component tree). Components are only weakly referenced, and are removed from the cache once they are
+ * no longer used elsewhere. The cache can be used from any thread without locking.
+ * @since 25.2
+ */
+public class SerializationCache {
+
+    /// The default maximum number of components whose serialized forms are kept in memory
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    /// The formats a component can be serialized to
+    enum Format {
+        MINI_MESSAGE,
+        LEGACY,
+        PLAIN
+    }
+
+    /// Weak reference to a component that is equal only to references to the exact same component instance
+    private static final class IdentityKey extends WeakReference<Component> {
+        private final int hash;
+
+        private IdentityKey(Component component, @Nullable ReferenceQueue<Component> queue) {
+            super(component, queue);
+            this.hash = System.identityHashCode(component);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other)
+                return true;
+
+            if (!(other instanceof IdentityKey key))
+                return false;
+
+            Component component = get();
+            return component != null && component == key.get();
+        }
+    }
+
+    private final ReferenceQueue<Component> collected = new ReferenceQueue<>();
+
+    /// Serialized forms of each component, indexed by format; written without locking, so each form is set atomically
+    private final BoundedCache<IdentityKey, AtomicReferenceArray<String>> serialized = new BoundedCache<>(DEFAULT_MAX_SIZE);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @ApiStatus.Internal
+    SerializationCache() {}
+
+    /// Removes entries of components that have been garbage collected
+    private void removeCollected() {
+        Reference<? extends Component> reference;
+        while ((reference = collected.poll()) != null)
+            serialized.remove((IdentityKey) reference);
+    }
+
+    /// Gets the serialized form of a component, serializing and caching it if necessary
+    @NotNull String serialize(@NotNull Component component, @NotNull Format format, @NotNull Function<Component, String> serializer) {
+        AtomicReferenceArray<String> forms = serialized.get(new IdentityKey(component, null));
+        String value = forms == null ? null : forms.get(format.ordinal());
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = serializer.apply(component);
+
+        // Only clean up on misses, which already allocate, so cache hits stay cheap
+        removeCollected();
+        if (forms == null) {
+            forms = new AtomicReferenceArray<>(Format.values().length);
+            serialized.put(new IdentityKey(component, collected), forms);
+        }
+        forms.set(format.ordinal(), value);
+        return value;
+    }
+
+    /**
+     * Sets the maximum number of components whose serialized forms are kept cached.
+     * Least-recently-used components are evicted first, in batches, so the size may briefly exceed the maximum.
+     * <p>
+     * A size of 0 disables serialization caching.
+     * @param maxSize Maximum cache size
+     * @since 25.2
+     */
+    @PublicAPI
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("Max cache size cannot be negative");
+
+        serialized.setMaxSize(maxSize);
+    }
+
+    /**
+     * Removes all serialized components from the cache.
+     * Does not reset the hit, miss, and eviction counters.
+     * @since 25.2
+     */
+    @PublicAPI
+    public void clear() {
+        serialized.clear();
+        removeCollected();
+    }
+
+    /**
+     * Gets the number of components currently cached.
+     * @return Cache size
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public int size() {
+        removeCollected();
+        return serialized.size();
+    }
+
+    /**
+     * Gets the number of times a component was serialized using a cached value.
+     * @return Number of cache hits
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of times a component had to be serialized because it was not cached.
+     * @return Number of cache misses
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the fraction of serializations that used a cached value.
+     * @return Hit rate, from 0 to 1 (or 0 if nothing has been serialized yet)
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the number of components removed from the cache to stay within its maximum size.
+     * Components removed after being garbage collected are not counted.
+     * @return Number of evictions
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long evictions() {
+        return serialized.evictions();
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.elvenide.core.providers.text;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Strips MiniMessage tags, ElvenideCore custom tags, and legacy codes from text in a single pass.
+ * <p>
+ * Only tags known to MiniMessage or ElvenideCore are stripped; any other text in angle brackets is kept,
+ * along with escaped tags and the content of <code>&lt;pre&gt;</code> tags.
+ * @since 25.2
+ */
+final class TagStripper {
+
+    private TagStripper() {}
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '_' || c == '-' || c == '#' || c == '!' || c == '?';
+    }
+
+    /// Gets the lowercase name of the tag between the given indices, or null if it cannot be a valid tag name
+    private static String tagName(String text, int start, int end) {
+        if (start < end && text.charAt(start) == '/')
+            start++;
+
+        int nameEnd = start;
+        while (nameEnd < end && text.charAt(nameEnd) != ':')
+            nameEnd++;
+
+        // Self-closing form, e.g. <br/>
+        if (nameEnd > start && nameEnd == end && text.charAt(nameEnd - 1) == '/')
+            nameEnd--;
+
+        // Negated form, e.g. <!italic>
+        if (nameEnd > start && text.charAt(start) == '!')
+            start++;
+
+        for (int i = start; i < nameEnd; i++) {
+            if (!isNameChar(text.charAt(i)))
+                return null;
+        }
+
+        return text.substring(start, nameEnd).toLowerCase(Locale.ROOT);
+    }
+
+    /// Returns the text with all known tags and legacy codes removed, or the original text if it has none
+    static @NotNull String strip(@NotNull String text) {
+        // Fast path: nothing that could be a tag or legacy code
+        if (text.indexOf('<') < 0 && text.indexOf('§') < 0 && text.indexOf('&') < 0)
+            return text;
+
+        final int length = text.length();
+        StringBuilder output = null;
+        int copiedUntil = 0;
+        boolean preformatted = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            int removed = 0;
+
+            // Keep escaped characters as-is
+            if (c == '\\' && i + 1 < length && (text.charAt(i + 1) == '<' || text.charAt(i + 1) == '\\')) {
+                i++;
+                continue;
+            }
+
+            if (c == '<') {
+                int end = LineRenderer.findTagEnd(text, i);
+                if (end < 0)
+                    continue;
+
+                String name = tagName(text, i + 1, end);
+                boolean closing = text.charAt(i + 1) == '/';
+                if (name == null)
+                    continue;
+
+                // Tags within <pre> are plain text, until it is closed
+                if (preformatted) {
+                    if (!closing || !name.equals("pre"))
+                        continue;
+                    preformatted = false;
+                }
+                // Nameless tags (e.g. </>) are kept, just as MiniMessage keeps them when stripping
+                else if (name.isEmpty() || !TextProvider.hasTag(name))
+                    continue;
+                else if (!closing && name.equals("pre"))
+                    preformatted = true;
+
+                removed = end - i + 1;
+            }
+            else if (!preformatted)
+                removed = LegacyColorConverter.codeLength(text, i);
+
+            if (removed == 0)
+                continue;
+
+            if (output == null)
+                output = new StringBuilder(length);
+
+            output.append(text, copiedUntil, i);
+            i += removed - 1;
+            copiedUntil = i + 1;
+        }
+
+        if (output == null)
+            return text;
+
+        return output.append(text, copiedUntil, length).toString();
+    }
+
+}
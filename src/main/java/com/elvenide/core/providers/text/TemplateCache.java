@@ -0,0 +1,116 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.api.PublicAPI;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This class should not directly be referenced by your code.
+ * Use {@link TextProvider#templates Core.text.templates} instead.
+ * <p>
+ * A bounded, least-recently-used cache of compiled message templates, which can be used from any thread without locking.
+ * Identical messages (e.g. the same lang message sent to every online player) are only parsed once,
+ * until they are evicted or the registered custom tags change.
+ * <p>
+ * Only messages without placeholders are cached. Placeholder values are MiniMessage text inserted into the message
+ * before parsing (so a value may itself contain tags), which means a message with placeholders must be parsed again
+ * for every distinct set of values, and is never served from this cache. To send such a message to many players,
+ * render it once (e.g. using {@link TextProvider#broadcast(java.util.Collection, Object, Object...) Core.text.broadcast()}).
+ * @since 25.2
+ */
+public class TemplateCache {
+
+    /// The default maximum number of compiled templates kept in memory
+    private static final int DEFAULT_MAX_SIZE = 512;
+
+    private record Key(String text, long version) {}
+
+    private final BoundedCache<Key, Component> compiled = new BoundedCache<>(DEFAULT_MAX_SIZE);
+
+    @ApiStatus.Internal
+    TemplateCache() {}
+
+    /// Gets a compiled template, or null if it is not cached for the given resolver version
+    @Nullable Component get(@NotNull String text, long version) {
+        return compiled.get(new Key(text, version));
+    }
+
+    /// Caches a compiled template for the given resolver version
+    void put(@NotNull String text, long version, @NotNull Component component) {
+        compiled.put(new Key(text, version), component);
+    }
+
+    /**
+     * Sets the maximum number of compiled templates to keep cached.
+     * Least-recently-used templates are evicted first, in batches, so the size may briefly exceed the maximum.
+     * <p>
+     * A size of 0 disables template caching.
+     * @param maxSize Maximum cache size
+     * @since 25.2
+     */
+    @PublicAPI
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("Max cache size cannot be negative");
+
+        compiled.setMaxSize(maxSize);
+    }
+
+    /**
+     * Removes all compiled templates from the cache.
+     * Does not reset the hit, miss, and eviction counters.
+     * @since 25.2
+     */
+    @PublicAPI
+    public void clear() {
+        compiled.clear();
+    }
+
+    /**
+     * Gets the number of compiled templates currently cached.
+     * @return Cache size
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public int size() {
+        return compiled.size();
+    }
+
+    /**
+     * Gets the number of times a message was served from the cache without being parsed.
+     * @return Number of cache hits
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long hits() {
+        return compiled.hits();
+    }
+
+    /**
+     * Gets the number of times a message had to be parsed because it was not cached.
+     * @return Number of cache misses
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long misses() {
+        return compiled.misses();
+    }
+
+    /**
+     * Gets the number of compiled templates removed from the cache to stay within its maximum size.
+     * @return Number of evictions
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public long evictions() {
+        return compiled.evictions();
+    }
+
+}
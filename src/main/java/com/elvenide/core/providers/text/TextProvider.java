@@ -17,40 +17,76 @@ import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.kyori.adventure.title.Title;
+import net.kyori.adventure.util.Ticks;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class should not be directly referenced by any plugin.
  * Its methods should only be utilized through the {@link Core#text} field.
  */
 public class TextProvider extends Provider {
-    private static MiniMessage miniMessage;
+    private static final Object[] NO_PLACEHOLDERS = new Object[0];
+
+    /// Guards all modifications of custom tags; reads use the published snapshots without locking
+    private static final Object tagLock = new Object();
     private static final TagResolver.Builder customResolver = TagResolver.builder();
-    private static final HashMap<String, String> customColorTags = new HashMap<>();
-    private static final HashMap<String, String> customTextTags = new HashMap<>();
+
+    /// Copy-on-write registries of custom tags, replaced (never modified) while holding {@link #tagLock}
+    private static volatile Map<String, String> customColorTags = Map.of();
+    private static volatile Map<String, String> customTextTags = Map.of();
+
+    /// Immutable snapshot of {@link #customResolver}, rebuilt only when custom tags change
+    private static volatile TagResolver customTags = TagResolver.empty();
+
+    /// Incremented whenever a change is made that affects how text is parsed (e.g. custom tags)
+    private static volatile long resolverVersion = 0;
 
     /// Flag that handles whether &lt;gradient&gt; tags should be auto-converted to &lt;egradient&gt;
     @PublicAPI
-    private static boolean autoConvertGradientToEgradient = true;
+    private static volatile boolean autoConvertGradientToEgradient = true;
 
     /// Flag that handles whether &lt;shadow&gt; tags should be auto-converted to &lt;eshadow&gt;
     @PublicAPI
-    private static boolean autoConvertShadowToEshadow = true;
+    private static volatile boolean autoConvertShadowToEshadow = true;
 
     /// A set of built-in text packages that add additional custom tags to MiniMessage
     public final PackageManager packages = new PackageManager();
 
+    /// A cache of compiled message templates, to avoid re-parsing identical messages without placeholders
+    @PublicAPI
+    public final TemplateCache templates = new TemplateCache();
+
+    /// An optional cache of text resolved by third-party placeholder plugins, disabled by default
+    @PublicAPI
+    public final PlaceholderCache placeholders = new PlaceholderCache();
+
+    /// A cache of serialized components, to avoid re-serializing the same component
+    @PublicAPI
+    public final SerializationCache serialized = new SerializationCache();
+
+    /// An optional filter of redundant action bar and title updates, disabled by default
+    @PublicAPI
+    public final HudThrottle hud = new HudThrottle();
+
     @ApiStatus.Internal
     public TextProvider(@Nullable Core core) {
         super(core);
@@ -63,7 +99,10 @@ public class TextProvider extends Provider {
      */
     @PublicAPI
     public static void shouldAutoConvertGradientToEgradient(boolean value) {
-        autoConvertGradientToEgradient = value;
+        synchronized (tagLock) {
+            autoConvertGradientToEgradient = value;
+            resolverVersion++;
+        }
     }
 
     /**
@@ -73,7 +112,10 @@ public class TextProvider extends Provider {
      */
     @PublicAPI
     public static void shouldAutoConvertShadowToEshadow(boolean value) {
-        autoConvertShadowToEshadow = value;
+        synchronized (tagLock) {
+            autoConvertShadowToEshadow = value;
+            resolverVersion++;
+        }
     }
 
     /**
@@ -85,64 +127,59 @@ public class TextProvider extends Provider {
     @PublicAPI
     @ApiStatus.Experimental
     public static MiniMessage resolver() {
-        if (miniMessage != null)
-            return miniMessage;
+        return MiniMessageHolder.INSTANCE;
+    }
 
-        miniMessage = MiniMessage.builder()
+    /// Lazily creates the MiniMessage instance, safely published to all threads by class initialization
+    private static final class MiniMessageHolder {
+        private static final MiniMessage INSTANCE = MiniMessage.builder()
                 .editTags(builder ->
+                    // Resolvers added later take precedence, so these replace the standard gradient and shadow tags
                     builder.resolver(StandardTags.defaults())
+                        .tag("gradient", TextProvider::createGradientTag)
                         .tag("egradient", TextProvider::createEgradientTag)
-                        .tag("escape", TextProvider::createEscapeTag)
+                        .tag("shadow", TextProvider::createShadowTag)
                         .tag("eshadow", TextProvider::createEshadowTag)
+                        .tag("escape", TextProvider::createEscapeTag)
                 )
                 .build();
-        return miniMessage;
-    }
-
-    private static String convertLegacyToMiniMessage(String text, String prefix) {
-        return text
-                .replace(prefix + "0", "<black>")
-                .replace(prefix + "1", "<dark_blue>")
-                .replace(prefix + "2", "<dark_green>")
-                .replace(prefix + "3", "<dark_aqua>")
-                .replace(prefix + "4", "<dark_red>")
-                .replace(prefix + "5", "<dark_purple>")
-                .replace(prefix + "6", "<gold>")
-                .replace(prefix + "7", "<gray>")
-                .replace(prefix + "8", "<dark_gray>")
-                .replace(prefix + "9", "<blue>")
-                .replaceAll(prefix + "[aA]", "<green>")
-                .replaceAll(prefix + "[bB]", "<aqua>")
-                .replaceAll(prefix + "[cC]", "<red>")
-                .replaceAll(prefix + "[dD]", "<light_purple>")
-                .replaceAll(prefix + "[eE]", "<yellow>")
-                .replaceAll(prefix + "[fF]", "<white>")
-                .replaceAll(prefix + "[kK]", "<obfuscated>")
-                .replaceAll(prefix + "[lL]", "<bold>")
-                .replaceAll(prefix + "[mM]", "<strikethrough>")
-                .replaceAll(prefix + "[nN]", "<underlined>")
-                .replaceAll(prefix + "[oO]", "<italic>")
-                .replaceAll(prefix + "[rR]", "<reset>")
-                .replaceAll(prefix + "(#[a-fA-F0-9]{6})", "<$1>");
+    }
+
+    /**
+     * Gets the current version of ElvenideCore's custom tags.
+     * The version changes whenever a custom tag is added or a text package is installed,
+     * or when a setting that affects how text is parsed is changed.
+     * <p>
+     * Useful to invalidate your own caches of deserialized components.
+     * @return Custom tag version
+     * @since 25.2
+     */
+    @PublicAPI
+    public static long getResolverVersion() {
+        return resolverVersion;
+    }
+
+    /// Publishes a new snapshot of the custom tags, after the builder has been modified while holding {@link #tagLock}
+    private static void rebuildCustomResolver() {
+        customTags = customResolver.build();
+        resolverVersion++;
     }
 
     /// @since 0.0.1
     private static String convertLegacyToMiniMessage(String text) {
-        return convertLegacyToMiniMessage(
-                convertLegacyToMiniMessage(text, "§"),
-                "&");
+        return LegacyColorConverter.convert(text);
     }
 
     /// @since 0.0.13
     static String preParsing(String text, Object[] placeholders) {
-        // Auto-convert <gradient> to <egradient>
-        if (autoConvertGradientToEgradient)
-            text = text.replace("<gradient:", "<egradient:")
+        // Auto-converted <gradient> tags behave like <egradient>, so both can be treated as <gradient>
+        if (autoConvertGradientToEgradient && text.contains("egradient"))
+            text = text.replace("<egradient:", "<gradient:")
                 .replace("</egradient>", "</gradient>");
 
-        // Auto-convert <shadow> to <eshadow>
-        if (autoConvertShadowToEshadow)
-            text = text.replace("<shadow:", "<eshadow:")
+        // Auto-converted <shadow> tags behave like <eshadow>, so both can be treated as <shadow>
+        if (autoConvertShadowToEshadow && text.contains("eshadow"))
+            text = text.replace("<eshadow:", "<shadow:")
                 .replace("</eshadow>", "</shadow>");
 
         // Format placeholders
@@ -153,15 +190,23 @@ public class TextProvider extends Provider {
         return convertLegacyToMiniMessage(text);
     }
 
+    /// Returns a copy of the registry with the entry added
+    private static Map<String, String> withTag(Map<String, String> registry, String name, String value) {
+        HashMap<String, String> copy = new HashMap<>(registry);
+        copy.put(name, value);
+        return Map.copyOf(copy);
+    }
+
     /// @since 0.0.2
     private static TagResolver createCustomColorResolver(@TagPattern String name, String color) {
         if (customColorTags.containsKey(name) || customTextTags.containsKey(name))
             throw new IllegalArgumentException("Tag name already in use: " + name);
 
-        customColorTags.put(name, color);
-        return TagResolver.resolver(name, Tag.styling(
+        TagResolver resolver = TagResolver.resolver(name, Tag.styling(
                 Objects.requireNonNull(TextColor.fromHexString(color))
         ));
+        customColorTags = withTag(customColorTags, name, color);
+        return resolver;
     }
 
     /// @since 0.0.18
@@ -169,27 +214,45 @@ public class TextProvider extends Provider {
         if (customColorTags.containsKey(name) || customTextTags.containsKey(name))
             throw new IllegalArgumentException("Tag name already in use: " + name);
 
-        text = preParsing(text, new Object[0]);
-        customTextTags.put(name, text);
-        return TagResolver.resolver(name, Tag.preProcessParsed(text));
-    }
+        text = preParsing(text, NO_PLACEHOLDERS);
+        customTextTags = withTag(customTextTags, name, text);
 
-    /// @since 0.0.11
-    private static Tag createEgradientTag(final ArgumentQueue args, final Context ignored) {
-        final String first = args.popOr("The <egradient> tag requires at least two color arguments; none were provided.").value();
-        final String second = args.popOr("The <egradient> tag requires at least two color arguments; only one was provided.").value();
+        CompiledTextTag tag = new CompiledTextTag(text);
+        return TagResolver.resolver(name, (args, ctx) -> tag.tag());
+    }
 
-        StringBuilder value = new StringBuilder("<gradient:")
-            .append(customColorTags.getOrDefault(first, first)).append(":")
-            .append(customColorTags.getOrDefault(second, second));
+    /// Parses the (pre-parsed) text of a custom text tag into a component
+    static @NotNull Component compileTextTag(@NotNull String text) {
+        return resolver().deserialize(text, customTags);
+    }
 
-        while (args.hasNext()) {
-            String arg = args.pop().value();
-            value.append(":").append(customColorTags.getOrDefault(arg, arg));
+    /// Adds many custom tags at once, rebuilding the custom tag resolver only once
+    static void addTags(@NotNull Map<String, String> colorTags, @NotNull Map<String, String> textTags) {
+        if (colorTags.isEmpty() && textTags.isEmpty())
+            return;
+
+        synchronized (tagLock) {
+            try {
+                colorTags.forEach((name, color) -> customResolver.resolver(createCustomColorResolver(name, color)));
+                textTags.forEach((name, text) -> customResolver.resolver(createCustomTextResolver(name, text)));
+            } finally {
+                // Publish tags added before any failure, as adding them one by one would have
+                rebuildCustomResolver();
+            }
         }
-        value.append(">");
+    }
 
-        return Tag.preProcessParsed(value.toString());
+    /// @since 25.2
+    private static Tag createGradientTag(final ArgumentQueue args, final Context ctx) {
+        // With fewer than two colors, <gradient> remains the standard default or single-color gradient
+        if (autoConvertGradientToEgradient && ColorTagResolver.hasArguments(args, 2))
+            return ColorTagResolver.gradient(args, ctx);
+        return ColorTagResolver.standardGradient(args, ctx);
+    }
+
+    /// @since 0.0.11
+    private static Tag createEgradientTag(final ArgumentQueue args, final Context ctx) {
+        return ColorTagResolver.gradient(args, ctx);
     }
 
     /// @since 0.0.12
@@ -203,20 +266,17 @@ public class TextProvider extends Provider {
         return Tag.selfClosingInserting(PlainTextComponentSerializer.plainText().deserialize(value.toString()));
     }
 
-    /// @since 0.0.15
-    private static Tag createEshadowTag(final ArgumentQueue args, final Context ignored) {
-        final String color = args.popOr("The <eshadow> tag requires a color argument.").value();
-
-        StringBuilder value = new StringBuilder("<shadow:")
-            .append(customColorTags.getOrDefault(color, color));
-
-        if (args.hasNext()) {
-            String opacity = args.pop().value();
-            value.append(":").append(opacity);
-        }
-        value.append(">");
+    /// @since 25.2
+    private static Tag createShadowTag(final ArgumentQueue args, final Context ctx) {
+        // Without a color (e.g. <!shadow>), <shadow> remains the standard tag
+        if (autoConvertShadowToEshadow && ColorTagResolver.hasArguments(args, 1))
+            return ColorTagResolver.shadow(args, ctx);
+        return ColorTagResolver.standardShadow(args, ctx);
+    }
 
-        return Tag.preProcessParsed(value.toString());
+    /// @since 0.0.15
+    private static Tag createEshadowTag(final ArgumentQueue args, final Context ctx) {
+        return ColorTagResolver.shadow(args, ctx);
     }
 
     /**
@@ -233,14 +293,11 @@ public class TextProvider extends Provider {
         if (rawText instanceof LangKey key)
             return key.get();
 
-        // Stringify arrays of any type
+        // Stringify arrays of any type, writing their elements directly
         if (rawText != null && rawText.getClass().isArray()) {
-            // Convert char arrays into a String made up of those chars
-            if (rawText instanceof char[] chars)
-                return String.valueOf(chars);
-
-            String output = Arrays.deepToString(new Object[]{rawText});
-            return output.substring(1, output.length() - 1);
+            StringBuilder output = new StringBuilder();
+            ValueWriter.append(output, rawText);
+            return output.toString();
         }
         return String.valueOf(rawText);
     }
@@ -264,49 +321,12 @@ public class TextProvider extends Provider {
     public final @NotNull String format(@Nullable Object rawText, @Nullable Object... placeholders) {
         String text = valueOf(rawText);
 
-        // Return text if there are no placeholders
-        if (placeholders.length == 0)
+        // Return text if there are no placeholders, or nowhere to insert them
+        if (placeholders.length == 0 || (text.indexOf('%') < 0 && text.indexOf('{') < 0))
             return text;
 
-        // Find java and custom placeholders
-        Pattern pattern = Pattern.compile("%([0-9]+[$]|<)*[-#+ 0,(]*[0-9]*([.][0-9]+)?[nbBhHsScCfdoxXeEgGaA]|%[tT][a-zA-Z]|\\{}");
-        Matcher matcher = pattern.matcher(text);
-
-        int i = 0;
-        char[] output = text.toCharArray();
-        while (matcher.find()) {
-            String placeholder = matcher.group();
-
-            // Keep java placeholders
-            if (!placeholder.equals("{}")) {
-                i++;
-                continue;
-            }
-
-            // Convert custom placeholders to java placeholders
-
-            if (i > placeholders.length)
-                break;
-
-            char formatLetter = 's';
-            if (placeholders[i] instanceof Integer || placeholders[i] instanceof Long)
-                formatLetter = 'd';
-            else if (placeholders[i] instanceof Float || placeholders[i] instanceof Double)
-                formatLetter = 'f';
-            else if (placeholders[i] instanceof Boolean)
-                formatLetter = 'b';
-            else if (placeholders[i] instanceof Character)
-                formatLetter = 'c';
-            else if (!(placeholders[i] instanceof String))
-                placeholders[i] = valueOf(placeholders[i]);
-
-            output[matcher.start()] = '%';
-            output[matcher.start() + 1] = formatLetter;
-            i++;
-        }
-
-        // Format text using java placeholder system
-        return valueOf(output).formatted(placeholders);
+        // Substitute placeholders into the (cached) parsed form of the text
+        return FormatTemplate.of(text).apply(placeholders);
     }
 
     /**
@@ -327,7 +347,7 @@ public class TextProvider extends Provider {
     @PublicAPI
     @Contract(pure = true)
     public final @NotNull String toString(@NotNull Component component) {
-        return resolver().serialize(component);
+        return serialized.serialize(component, SerializationCache.Format.MINI_MESSAGE, resolver()::serialize);
     }
 
     /**
@@ -339,7 +359,7 @@ public class TextProvider extends Provider {
     @PublicAPI
     @Contract(pure = true)
     public final @NotNull String toPlainString(@NotNull Component component) {
-        return PlainTextComponentSerializer.plainText().serialize(component);
+        return serialized.serialize(component, SerializationCache.Format.PLAIN, PlainTextComponentSerializer.plainText()::serialize);
     }
 
     /**
@@ -351,7 +371,7 @@ public class TextProvider extends Provider {
     @PublicAPI
     @Contract(pure = true)
     public final @NotNull String toLegacyString(@NotNull Component component) {
-        return LegacyComponentSerializer.legacySection().serialize(component);
+        return serialized.serialize(component, SerializationCache.Format.LEGACY, LegacyComponentSerializer.legacySection()::serialize);
     }
 
     /**
@@ -384,6 +404,11 @@ public class TextProvider extends Provider {
      *     <li><code>&lt;escape:'{text}'&gt;</code> tags that escape any MiniMessage tags in them</li>
      *     <li><code>&lt;eshadow:{color}:[opacity]&gt;</code> tags that support your custom colors</li>
      * </ul>
+     * <p>
+     * Messages without placeholders are cached by {@link #templates}, so identical messages are only parsed once.
+     * Messages with placeholders are parsed on every call, as placeholder values are inserted as MiniMessage text
+     * before parsing; to send such a message to many players, render it once with
+     * {@link #broadcast(Collection, Object, Object...)} instead of calling this for each player.
      * @param text The String text
      * @param optionalPlaceholders Optional placeholders
      * @return Deserialized MiniMessage component
@@ -392,10 +417,90 @@ public class TextProvider extends Provider {
     @PublicAPI
     @Contract(pure = true)
     public final @NotNull Component from(@Nullable Object text, @Nullable Object... optionalPlaceholders) {
-        return resolver().deserialize(
-            preParsing(valueOf(text), optionalPlaceholders),
-            customResolver.build()
-        );
+        return render(valueOf(text), optionalPlaceholders);
+    }
+
+    /// Deserializes text, only using the template cache for text without placeholders
+    private @NotNull Component render(@NotNull String text, @Nullable Object[] placeholders) {
+        // Placeholder values are MiniMessage text inserted into the message before parsing, so every distinct value
+        // makes a distinct message; caching those would only evict the fixed messages that are actually reused
+        if (placeholders.length > 0)
+            return resolver().deserialize(preParsing(text, placeholders), customTags);
+
+        long version = resolverVersion;
+        Component compiled = templates.get(text, version);
+        if (compiled != null)
+            return compiled;
+
+        compiled = deserialize(text);
+        templates.put(text, version, compiled);
+        return compiled;
+    }
+
+    /**
+     * Lazily deserializes multi-line text, in MiniMessage format, to one MiniMessage Component per line.
+     * <p>
+     * Lines are separated by line breaks or <code>&lt;br&gt;</code> tags. Tags left open at the end of a line
+     * continue to apply to the following lines, just as they would in a single message. Gradients and rainbows
+     * are restarted on each line, spanning only that line.
+     * <p>
+     * Lines are only deserialized as they are consumed, so large texts (e.g. books or help pages) can be
+     * paginated using {@link Stream#skip(long)} and {@link Stream#limit(long)} without deserializing every line.
+     * @param text The String text
+     * @param optionalPlaceholders Optional placeholders
+     * @return Stream of deserialized lines
+     * @see #from(Object, Object...)
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public final @NotNull Stream<Component> lines(@Nullable Object text, @Nullable Object... optionalPlaceholders) {
+        return lines(new StringReader(format(text, optionalPlaceholders)));
+    }
+
+    /**
+     * Lazily deserializes multi-line text, in MiniMessage format, read from a Reader to one MiniMessage Component per line.
+     * <p>
+     * Text is only read from the reader as lines are consumed. Closing the returned stream closes the reader.
+     * @param reader The reader
+     * @return Stream of deserialized lines
+     * @see #lines(Object, Object...)
+     * @since 25.2
+     */
+    @PublicAPI
+    @Contract(pure = true)
+    public final @NotNull Stream<Component> lines(@NotNull Reader reader) {
+        BufferedReader bufferedReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        LineRenderer renderer = new LineRenderer(bufferedReader);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(renderer, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                try {
+                    bufferedReader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /// Deserializes text without using the template cache
+    static @NotNull Component deserialize(@NotNull String text) {
+        return resolver().deserialize(preParsing(text, NO_PLACEHOLDERS), customTags);
+    }
+
+    /// Checks if a tag name is known to MiniMessage or ElvenideCore's custom tags
+    static boolean hasTag(@NotNull String name) {
+        return resolver().tags().has(name) || customTags.has(name);
+    }
+
+    /// Gets the current custom color tags, mapped to their hex colors
+    static @NotNull Map<String, String> customColors() {
+        return customColorTags;
+    }
+
+    /// Checks if a tag name belongs to a custom text tag
+    static boolean isTextTag(@NotNull String name) {
+        return customTextTags.containsKey(name);
     }
 
     /**
@@ -405,6 +510,8 @@ public class TextProvider extends Provider {
      * <code>
      *     from("Hi %player_name%", player, PlaceholderAPI::setPlaceholders);
      * </code>
+     * <p>
+     * If enabled via {@link #placeholders}, resolved text is cached per player to avoid invoking the resolver repeatedly.
      * @param text The String text
      * @param player The optional player
      * @param placeholderResolver The placeholder resolver
@@ -415,12 +522,14 @@ public class TextProvider extends Provider {
     @PublicAPI
     @Contract(pure = true)
     public final @NotNull Component from(@Nullable Object text, @Nullable Player player, @NotNull BiFunction<@Nullable Player, @NotNull String, @NotNull String> placeholderResolver) {
-        text = placeholderResolver.apply(player, valueOf(text));
+        text = placeholders.resolve(player, valueOf(text), placeholderResolver);
         return from(text);
     }
 
     /**
-     * Strips all valid MiniMessage/ElvenideCore tags from a String.
+     * Strips all valid MiniMessage/ElvenideCore tags from a String, including custom tags and legacy codes.
+     * <p>
+     * Text without any tags or legacy codes is returned as-is, without copying it.
      * @param text The String text
      * @return Plain text without component tags
      * @since 0.0.17
@@ -428,7 +537,7 @@ public class TextProvider extends Provider {
     @PublicAPI
     @Contract(pure = true)
     public final @NotNull String stripTags(@NotNull String text) {
-        return resolver().stripTags(text);
+        return TagStripper.strip(text);
     }
 
     /**
@@ -457,9 +566,69 @@ public class TextProvider extends Provider {
         player.sendMessage(from(text, player, placeholderResolver));
     }
 
+    /**
+     * Convenience method to send multi-line text using {@link #lines(Object, Object...)} to a player, group,
+     * console, or the entire server, as one message per line.
+     * @param audience The audience (e.g. player)
+     * @param text String text
+     * @param optionalPlaceholders Optional placeholders
+     * @since 25.2
+     */
+    @PublicAPI
+    public final void sendLines(@NotNull Audience audience, @Nullable Object text, @Nullable Object... optionalPlaceholders) {
+        lines(text, optionalPlaceholders).forEach(audience::sendMessage);
+    }
+
+    /**
+     * Convenience method to send the same message using {@link #from(Object, Object...)} to many audiences at once.
+     * <p>
+     * The message is rendered only once, no matter how many audiences receive it.
+     * @param audiences The audiences (e.g. online players)
+     * @param text String text
+     * @param optionalPlaceholders Optional placeholders
+     * @since 25.2
+     */
+    @PublicAPI
+    public final void broadcast(@NotNull Collection<? extends Audience> audiences, @Nullable Object text, @Nullable Object... optionalPlaceholders) {
+        if (audiences.isEmpty())
+            return;
+
+        Component message = from(text, optionalPlaceholders);
+        for (Audience audience : audiences)
+            audience.sendMessage(message);
+    }
+
+    /**
+     * Convenience method to send the same message using {@link #from(Object, Object...)} to many players at once,
+     * with support for a third-party placeholder plugin.
+     * <p>
+     * Placeholders are resolved for each player, but the message is only rendered once per distinct
+     * resolved text, so players that see the same text share a single rendered message.
+     * <p>
+     * If enabled via {@link #placeholders}, resolved text is cached per player to avoid invoking the resolver repeatedly.
+     * @param players The players
+     * @param text String text
+     * @param placeholderResolver The placeholder resolver
+     * @since 25.2
+     */
+    @PublicAPI
+    public final void broadcast(@NotNull Collection<? extends Player> players, @Nullable Object text, @NotNull BiFunction<@Nullable Player, @NotNull String, @NotNull String> placeholderResolver) {
+        if (players.isEmpty())
+            return;
+
+        String template = valueOf(text);
+        HashMap<String, Component> rendered = new HashMap<>();
+        for (Player player : players) {
+            String resolved = placeholders.resolve(player, template, placeholderResolver);
+            player.sendMessage(rendered.computeIfAbsent(resolved, resolvedText -> from(resolvedText)));
+        }
+    }
+
     /**
      * Convenience method to send a title using {@link #from(Object, Object...)} to a player, group,
      * or the entire server.
+     * <p>
+     * If enabled via {@link #hud}, titles identical to the one a player is currently seeing are not sent again.
      * @param audience The audience (e.g. player)
      * @param title Title text
      * @param subtitle Subtitle text
@@ -467,10 +636,7 @@ public class TextProvider extends Provider {
      */
     @PublicAPI
     public final void sendTitle(@NotNull Audience audience, @NotNull Object title, @NotNull Object subtitle) {
-        audience.showTitle(Title.title(
-            from(title),
-            from(subtitle)
-        ));
+        sendTitle(audience, valueOf(title), valueOf(subtitle), Title.DEFAULT_TIMES);
     }
 
     /**
@@ -486,18 +652,31 @@ public class TextProvider extends Provider {
      */
     @PublicAPI
     public final void sendTitle(@NotNull Audience audience, @NotNull Object title, @NotNull Object subtitle, int fadeInTicks, int stayTicks, int fadeOutTicks) {
+        sendTitle(audience, valueOf(title), valueOf(subtitle), Title.Times.times(
+            Ticks.duration(fadeInTicks),
+            Ticks.duration(stayTicks),
+            Ticks.duration(fadeOutTicks)
+        ));
+    }
+
+    /// Sends a title, unless it is filtered out as a redundant update
+    private void sendTitle(Audience audience, String title, String subtitle, Title.Times times) {
+        if (!hud.shouldSendTitle(audience, title, subtitle, times))
+            return;
+
         audience.showTitle(Title.title(
             from(title),
             from(subtitle),
-            fadeInTicks,
-            stayTicks,
-            fadeOutTicks
+            times
         ));
     }
 
     /**
      * Convenience method to send an action bar using {@link #from(Object, Object...)} to a player, group,
      * or the entire server.
+     * <p>
+     * If enabled via {@link #hud}, action bars identical to the one a player is currently seeing are not rendered
+     * or sent again.
      * @param audience The audience (e.g. player)
      * @param text String text
      * @param optionalPlaceholders Optional placeholders
@@ -505,7 +684,10 @@ public class TextProvider extends Provider {
      */
     @PublicAPI
     public final void sendActionBar(@NotNull Audience audience, @NotNull Object text, @Nullable Object... optionalPlaceholders) {
-        audience.sendActionBar(from(text, optionalPlaceholders));
+        // Format once, as the formatted text is both the throttle key and the message to parse
+        String formatted = format(text, optionalPlaceholders);
+        if (hud.shouldSendActionBar(audience, formatted))
+            audience.sendActionBar(optionalPlaceholders.length > 0 ? deserialize(formatted) : render(formatted, NO_PLACEHOLDERS));
     }
 
     /**
@@ -519,7 +701,10 @@ public class TextProvider extends Provider {
      */
     @PublicAPI
     public final void addColorTag(@NotNull @TagPattern String name, @NotNull String color) {
-        customResolver.resolver(createCustomColorResolver(name, color));
+        synchronized (tagLock) {
+            customResolver.resolver(createCustomColorResolver(name, color));
+            rebuildCustomResolver();
+        }
     }
 
     /**
@@ -532,13 +717,17 @@ public class TextProvider extends Provider {
      * @param text The text value of the tag
      * @since 0.0.18
      * @apiNote
-     * Text values are added as pre-parsed content, so they can contain MiniMessage tags
-     * and other ElvenideCore custom tags. To avoid infinite recursion, avoid
-     * referencing a text tag in its own text.
+     * Text values can contain MiniMessage tags and other ElvenideCore custom tags.
+     * Since 25.2, text values are parsed once and inserted as a component, so tags
+     * left open in a text value no longer apply to the rest of the message.
+     * To avoid infinite recursion, avoid referencing a text tag in its own text.
      */
     @PublicAPI
     public final void addTextTag(@NotNull @TagPattern String name, @NotNull String text) {
-        customResolver.resolver(createCustomTextResolver(name, text));
+        synchronized (tagLock) {
+            customResolver.resolver(createCustomTextResolver(name, text));
+            rebuildCustomResolver();
+        }
     }
 
 }
@@ -0,0 +1,115 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.providers.lang.LangKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * Writes the String representation of objects, as defined by {@link TextProvider#valueOf(Object)},
+ * directly into a StringBuilder.
+ * <p>
+ * Primitive wrappers and arrays are written element by element, without creating intermediate Strings.
+ * @since 25.2
+ */
+final class ValueWriter {
+
+    private ValueWriter() {}
+
+    /// Appends a value, the same way {@link TextProvider#valueOf(Object)} stringifies it
+    static void append(@NotNull StringBuilder output, @Nullable Object value) {
+        switch (value) {
+            case null -> output.append("null");
+            case String string -> output.append(string);
+            case Integer number -> output.append(number.intValue());
+            case Long number -> output.append(number.longValue());
+            case Short number -> output.append(number.shortValue());
+            case Byte number -> output.append(number.byteValue());
+            case Double number -> output.append(number.doubleValue());
+            case Float number -> output.append(number.floatValue());
+            case Boolean bool -> output.append(bool.booleanValue());
+            case Character character -> output.append(character.charValue());
+            case LangKey key -> output.append(key.get());
+
+            // Char arrays are written as the String made up of those chars
+            case char[] chars -> output.append(chars);
+            default -> {
+                if (value.getClass().isArray())
+                    appendArray(output, value, null);
+                else
+                    output.append(value);
+            }
+        }
+    }
+
+    /// Appends an array in the same format as {@link java.util.Arrays#deepToString(Object[])}
+    private static void appendArray(StringBuilder output, Object array, @Nullable ArrayList<Object[]> parents) {
+        if (array instanceof Object[] values) {
+            appendObjectArray(output, values, parents);
+            return;
+        }
+
+        // Each primitive type has its own loop, so elements are written without being boxed
+        output.append('[');
+        switch (array) {
+            case int[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case long[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case double[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case float[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case short[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case byte[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case boolean[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            case char[] values -> { for (int i = 0; i < values.length; i++) separate(output, i).append(values[i]); }
+            default -> throw new IllegalArgumentException("Not an array: " + array);
+        }
+        output.append(']');
+    }
+
+    /// Appends the separator before every array element except the first
+    private static StringBuilder separate(StringBuilder output, int index) {
+        return index > 0 ? output.append(", ") : output;
+    }
+
+    private static void appendObjectArray(StringBuilder output, Object[] values, @Nullable ArrayList<Object[]> parents) {
+        output.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                output.append(", ");
+
+            Object element = values[i];
+            if (element == null || !element.getClass().isArray()) {
+                output.append(element);
+                continue;
+            }
+
+            if (!(element instanceof Object[] nested)) {
+                appendArray(output, element, parents);
+                continue;
+            }
+
+            // Arrays that contain themselves are written as "[...]", to avoid infinite recursion
+            if (nested == values || (parents != null && containsIdentical(parents, nested))) {
+                output.append("[...]");
+                continue;
+            }
+
+            if (parents == null)
+                parents = new ArrayList<>();
+
+            parents.add(values);
+            appendObjectArray(output, nested, parents);
+            parents.removeLast();
+        }
+        output.append(']');
+    }
+
+    private static boolean containsIdentical(ArrayList<Object[]> arrays, Object[] array) {
+        for (Object[] other : arrays) {
+            if (other == array)
+                return true;
+        }
+        return false;
+    }
+
+}
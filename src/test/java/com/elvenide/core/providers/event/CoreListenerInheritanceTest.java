@@ -0,0 +1,143 @@
+package com.elvenide.core.providers.event;
+
+import com.elvenide.core.providers.event.other.OtherPackageListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoreListenerInheritanceTest {
+
+    public record Event() implements CoreEvent {}
+
+    public record OtherEvent() implements CoreEvent {}
+
+    static abstract class SamePackageListener implements CoreListener {
+        final List<String> calls = new ArrayList<>();
+
+        @CoreEventHandler
+        void onEvent(Event event) {
+            calls.add("superclass");
+        }
+    }
+
+    static class OverridingListener extends SamePackageListener {
+        @Override
+        void onEvent(Event event) {
+            calls.add("subclass");
+        }
+    }
+
+    static class CrossPackageListener extends OtherPackageListener {
+        // Same signature as the superclass handler, but it is package-private in another package, so this does not override it
+        @CoreEventHandler
+        void onEvent(OtherPackageListener.Event event) {
+            calls.add("subclass");
+        }
+    }
+
+    static abstract class GenericListener<E extends CoreEvent> implements CoreListener {
+        final List<String> calls = new ArrayList<>();
+
+        abstract void onEvent(E event);
+    }
+
+    static class GenericImplementation extends GenericListener<Event> {
+        // javac generates a bridge method onEvent(CoreEvent), which also carries this annotation
+        @CoreEventHandler
+        @Override
+        void onEvent(Event event) {
+            calls.add("subclass");
+        }
+    }
+
+    @Test
+    void bridgeMethodsAreNotHandlers() {
+        GenericImplementation listener = new GenericImplementation();
+        listener.register();
+        try {
+            new Event().callCoreEvent();
+            new OtherEvent().callCoreEvent();
+            assertEquals(List.of("subclass"), listener.calls);
+        } finally {
+            listener.unregister();
+        }
+    }
+
+    static abstract class GenericBase<E extends CoreEvent> implements CoreListener {
+        final List<String> calls = new ArrayList<>();
+
+        @CoreEventHandler
+        void onEvent(E event) {
+            calls.add("superclass");
+        }
+    }
+
+    static class GenericOverride extends GenericBase<Event> {
+        @CoreEventHandler
+        @Override
+        void onEvent(Event event) {
+            calls.add("subclass");
+        }
+    }
+
+    static class GenericOverrideWithoutAnnotation extends GenericBase<Event> {
+        @Override
+        void onEvent(Event event) {
+            calls.add("subclass");
+        }
+    }
+
+    @Test
+    void genericOverrideReplacesInheritedHandler() {
+        GenericOverride listener = new GenericOverride();
+        listener.register();
+        try {
+            new Event().callCoreEvent();
+            new OtherEvent().callCoreEvent();
+            assertEquals(List.of("subclass"), listener.calls);
+        } finally {
+            listener.unregister();
+        }
+    }
+
+    @Test
+    void genericOverrideWithoutAnnotationRemovesHandler() {
+        GenericOverrideWithoutAnnotation listener = new GenericOverrideWithoutAnnotation();
+        listener.register();
+        try {
+            new Event().callCoreEvent();
+            new OtherEvent().callCoreEvent();
+            assertEquals(List.of(), listener.calls);
+        } finally {
+            listener.unregister();
+        }
+    }
+
+    @Test
+    void overridingWithoutAnnotationRemovesHandler() {
+        OverridingListener listener = new OverridingListener();
+        listener.register();
+        try {
+            new Event().callCoreEvent();
+            assertEquals(List.of(), listener.calls);
+        } finally {
+            listener.unregister();
+        }
+    }
+
+    @Test
+    void packagePrivateHandlerFromOtherPackageIsNotOverridden() {
+        CrossPackageListener listener = new CrossPackageListener();
+        listener.register();
+        try {
+            new OtherPackageListener.Event().callCoreEvent();
+            assertEquals(List.of("superclass", "subclass"), listener.calls);
+        } finally {
+            listener.unregister();
+        }
+    }
+
+}
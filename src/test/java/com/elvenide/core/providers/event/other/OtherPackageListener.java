@@ -0,0 +1,22 @@
+package com.elvenide.core.providers.event.other;
+
+import com.elvenide.core.providers.event.CoreEvent;
+import com.elvenide.core.providers.event.CoreEventHandler;
+import com.elvenide.core.providers.event.CoreListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/// A listener with a package-private handler, which subclasses in other packages cannot override
+public abstract class OtherPackageListener implements CoreListener {
+
+    public record Event() implements CoreEvent {}
+
+    public final List<String> calls = new ArrayList<>();
+
+    @CoreEventHandler
+    void onEvent(Event event) {
+        calls.add("superclass");
+    }
+
+}
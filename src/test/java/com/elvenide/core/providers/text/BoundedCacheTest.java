@@ -0,0 +1,79 @@
+package com.elvenide.core.providers.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() throws InterruptedException {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(8);
+        for (int i = 0; i < 8; i++)
+            cache.put("key" + i, i);
+
+        // Use every entry except the first, so it is the least recently used
+        Thread.sleep(1);
+        for (int i = 1; i < 8; i++)
+            cache.get("key" + i);
+
+        cache.put("key8", 8);
+        assertNull(cache.get("key0"));
+        assertEquals(8, cache.get("key8"));
+        assertTrue(cache.size() <= 8);
+        assertEquals(9 - cache.size(), cache.evictions());
+    }
+
+    @Test
+    void disabledWhenEmpty() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+        cache.put("key", 1);
+        cache.setMaxSize(0);
+        cache.put("other", 2);
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void concurrentAccessStaysBoundedAndCorrect() throws Exception {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = (i * 31 + seed) % 256;
+                        String value = cache.get(key);
+                        if (value == null)
+                            cache.put(key, "value" + key);
+                        else
+                            assertEquals("value" + key, value);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Threads skip eviction while another thread is evicting, so the size is only bounded again once a
+        // put triggers an eviction with no other threads running
+        cache.put(-1, "value-1");
+        assertTrue(cache.size() <= 64, "Cache grew to " + cache.size());
+        assertEquals(8 * 20_000, cache.hits() + cache.misses());
+    }
+
+}
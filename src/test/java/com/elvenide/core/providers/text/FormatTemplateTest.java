@@ -0,0 +1,100 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FormatTemplateTest {
+
+    /// Templates and their placeholders, each of which the previous implementation formatted without throwing
+    private static final Object[][] CASES = {
+        {"{} at the start", "value"},
+        {"at the end {}", "value"},
+        {"{}", 5},
+        {"{}{}", "a", "b"},
+        {"{} and %s", "a", "b"},
+        {"%s and {}", "a", "b"},
+        {"{} %d {} {}", 1.5, 2, true, 'c'},
+        {"%2$s then {}", "a", "b"},
+        {"{} then %<s", "a"},
+        {"%.2f and {}", 1.234, 7L},
+        {"too many {}", "a", "b", "c"},
+        {"escaped {{}} braces", "x"},
+        {"escaped 100%% then {}", "x"},
+        {"{ } and { alone", "x"},
+        {"{} object", new StringBuilder("builder")},
+        {"no placeholders", "unused"},
+    };
+
+    /// The regex-based implementation this template engine replaced
+    private static String previous(String text, Object... placeholders) {
+        Pattern pattern = Pattern.compile("%([0-9]+[$]|<)*[-#+ 0,(]*[0-9]*([.][0-9]+)?[nbBhHsScCfdoxXeEgGaA]|%[tT][a-zA-Z]|\\{}");
+        Matcher matcher = pattern.matcher(text);
+
+        int i = 0;
+        char[] output = text.toCharArray();
+        while (matcher.find()) {
+            if (!matcher.group().equals("{}")) {
+                i++;
+                continue;
+            }
+
+            char formatLetter = 's';
+            if (placeholders[i] instanceof Integer || placeholders[i] instanceof Long)
+                formatLetter = 'd';
+            else if (placeholders[i] instanceof Float || placeholders[i] instanceof Double)
+                formatLetter = 'f';
+            else if (placeholders[i] instanceof Boolean)
+                formatLetter = 'b';
+            else if (placeholders[i] instanceof Character)
+                formatLetter = 'c';
+            else if (!(placeholders[i] instanceof String))
+                placeholders[i] = String.valueOf(placeholders[i]);
+
+            output[matcher.start()] = '%';
+            output[matcher.start() + 1] = formatLetter;
+            i++;
+        }
+
+        return String.valueOf(output).formatted(placeholders);
+    }
+
+    @Test
+    void matchesPreviousFormatting() {
+        for (Object[] testCase : CASES) {
+            String template = (String) testCase[0];
+            Object[] placeholders = Arrays.copyOfRange(testCase, 1, testCase.length);
+            assertEquals(previous(template, placeholders.clone()), Core.text.format(template, placeholders), template);
+        }
+    }
+
+    @Test
+    void cachedTemplatesFormatNewValues() {
+        assertEquals("Hello Alice, you have 3 coins", Core.text.format("Hello {}, you have %d coins", "Alice", 3));
+        assertEquals("Hello Bob, you have 5 coins", Core.text.format("Hello {}, you have %d coins", "Bob", 5));
+    }
+
+    @Test
+    void leavesSurplusPlaceholdersWhenTooFewValues() {
+        // The previous implementation threw ArrayIndexOutOfBoundsException here
+        assertEquals("a {}", Core.text.format("{} {}", "a"));
+    }
+
+    @Test
+    void escapedPercentSignsDoNotConsumeValues() {
+        // The previous implementation matched "% a" as a Java placeholder, and threw ArrayIndexOutOfBoundsException here
+        assertEquals("100% and x", Core.text.format("100%% and {}", "x"));
+    }
+
+    @Test
+    void lineSeparatorsDoNotConsumeValues() {
+        // The previous implementation counted %n as a value, and threw ArrayIndexOutOfBoundsException here
+        assertEquals(System.lineSeparator() + "x", Core.text.format("%n{}", "x"));
+    }
+
+}
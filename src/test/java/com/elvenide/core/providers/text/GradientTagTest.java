@@ -0,0 +1,96 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.ShadowColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GradientTagTest {
+
+    static {
+        Core.text.addColorTag("gradient_test_red", "#ff0000");
+        Core.text.addColorTag("light_purple", "#abcdef");
+    }
+
+    /// Gets the first color found in a component tree, depth-first
+    private static TextColor firstColor(Component component) {
+        if (component.color() != null)
+            return component.color();
+
+        for (Component child : component.children()) {
+            TextColor color = firstColor(child);
+            if (color != null)
+                return color;
+        }
+        return null;
+    }
+
+    /// Gets the first shadow color found in a component tree, depth-first
+    private static ShadowColor firstShadow(Component component) {
+        if (component.shadowColor() != null)
+            return component.shadowColor();
+
+        for (Component child : component.children()) {
+            ShadowColor shadow = firstShadow(child);
+            if (shadow != null)
+                return shadow;
+        }
+        return null;
+    }
+
+    /// Renders text with both auto-conversion settings set to the given value, restoring the defaults afterwards
+    private static Component render(String text, boolean autoConvert) {
+        TextProvider.shouldAutoConvertGradientToEgradient(autoConvert);
+        TextProvider.shouldAutoConvertShadowToEshadow(autoConvert);
+        try {
+            return Core.text.from(text);
+        } finally {
+            TextProvider.shouldAutoConvertGradientToEgradient(true);
+            TextProvider.shouldAutoConvertShadowToEshadow(true);
+        }
+    }
+
+    @Test
+    void egradientUsesCustomColors() {
+        for (boolean autoConvert : new boolean[] {true, false}) {
+            Component component = render("<egradient:gradient_test_red:blue>Hello", autoConvert);
+            assertEquals("Hello", PlainTextComponentSerializer.plainText().serialize(component));
+            assertEquals(TextColor.color(0xff0000), firstColor(component));
+        }
+    }
+
+    @Test
+    void eshadowUsesCustomColors() {
+        for (boolean autoConvert : new boolean[] {true, false}) {
+            Component component = render("<eshadow:gradient_test_red>Hello", autoConvert);
+            assertEquals(0xff0000, firstShadow(component).value() & 0xffffff);
+        }
+    }
+
+    @Test
+    void gradientUsesCustomColorsWhenAutoConverted() {
+        assertEquals(TextColor.color(0xff0000), firstColor(render("<gradient:gradient_test_red:blue>Hello", true)));
+        assertEquals(0xff0000, firstShadow(render("<shadow:gradient_test_red>Hello", true)).value() & 0xffffff);
+    }
+
+    @Test
+    void customColorsReplaceStandardColorsOfTheSameName() {
+        assertEquals(TextColor.color(0xabcdef), firstColor(render("<egradient:light_purple:blue>Hello", true)));
+        assertEquals(TextColor.color(0xabcdef), firstColor(render("<gradient:light_purple:blue>Hello", true)));
+    }
+
+    @Test
+    void standardGradientIsUnchanged() {
+        for (boolean autoConvert : new boolean[] {true, false}) {
+            Component component = render("<gradient:red:blue>Hello", autoConvert);
+            assertEquals("Hello", PlainTextComponentSerializer.plainText().serialize(component));
+            assertEquals(NamedTextColor.RED.value(), firstColor(component).value());
+        }
+    }
+
+}
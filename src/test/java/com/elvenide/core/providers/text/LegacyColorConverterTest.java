@@ -0,0 +1,66 @@
+package com.elvenide.core.providers.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LegacyColorConverterTest {
+
+    private static final String[] INPUTS = {
+        "plain text",
+        "&aGreen", "§aGreen", "&AGreen", "§AGreen",
+        "&0&1&2&3&4&5&6&7&8&9", "§0§1§2§3§4§5§6§7§8§9",
+        "&a&b&c&d&e&f&k&l&m&n&o&r", "&A&B&C&D&E&F&K&L&M&N&O&R",
+        "§a§b§c§d§e§f§k§l§m§n§o§r", "§A§B§C§D§E§F§K§L§M§N§O§R",
+        "&cRed &lbold §9blue §Oitalic",
+        "&#aBcDeF hex", "§#123456 hex", "&#12345 too short", "&#ghijkl not hex",
+        "&&a", "§&a", "&§a", "&zunknown", "§x", "trailing&", "trailing§",
+        "100% & more",
+    };
+
+    /// The regex chain this converter replaced, applied once per prefix
+    private static String replaceAll(String text, String prefix) {
+        return text
+            .replace(prefix + "0", "<black>")
+            .replace(prefix + "1", "<dark_blue>")
+            .replace(prefix + "2", "<dark_green>")
+            .replace(prefix + "3", "<dark_aqua>")
+            .replace(prefix + "4", "<dark_red>")
+            .replace(prefix + "5", "<dark_purple>")
+            .replace(prefix + "6", "<gold>")
+            .replace(prefix + "7", "<gray>")
+            .replace(prefix + "8", "<dark_gray>")
+            .replace(prefix + "9", "<blue>")
+            .replaceAll(prefix + "[aA]", "<green>")
+            .replaceAll(prefix + "[bB]", "<aqua>")
+            .replaceAll(prefix + "[cC]", "<red>")
+            .replaceAll(prefix + "[dD]", "<light_purple>")
+            .replaceAll(prefix + "[eE]", "<yellow>")
+            .replaceAll(prefix + "[fF]", "<white>")
+            .replaceAll(prefix + "[kK]", "<obfuscated>")
+            .replaceAll(prefix + "[lL]", "<bold>")
+            .replaceAll(prefix + "[mM]", "<strikethrough>")
+            .replaceAll(prefix + "[nN]", "<underlined>")
+            .replaceAll(prefix + "[oO]", "<italic>")
+            .replaceAll(prefix + "[rR]", "<reset>")
+            .replaceAll(prefix + "(#[a-fA-F0-9]{6})", "<$1>");
+    }
+
+    private static String previous(String text) {
+        return replaceAll(replaceAll(text, "§"), "&");
+    }
+
+    @Test
+    void matchesPreviousConversion() {
+        for (String input : INPUTS)
+            assertEquals(previous(input), LegacyColorConverter.convert(input), input);
+    }
+
+    @Test
+    void returnsTextWithoutCodesUnchanged() {
+        String text = "nothing & to convert";
+        assertSame(text, LegacyColorConverter.convert(text));
+    }
+
+}
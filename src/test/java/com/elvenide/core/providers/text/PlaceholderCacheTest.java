@@ -0,0 +1,56 @@
+package com.elvenide.core.providers.text;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlaceholderCacheTest {
+
+    private static final AtomicInteger staticResolutions = new AtomicInteger();
+
+    private static String resolveStatic(@Nullable Player player, String text) {
+        staticResolutions.incrementAndGet();
+        return text.replace("%name%", "Steve");
+    }
+
+    @Test
+    void cachesStableResolvers() {
+        PlaceholderCache cache = new PlaceholderCache();
+        cache.enable(60, 16);
+        staticResolutions.set(0);
+
+        for (int i = 0; i < 3; i++)
+            assertEquals("Hello Steve", cache.resolve(null, "Hello %name%", PlaceholderCacheTest::resolveStatic));
+
+        assertEquals(1, staticResolutions.get());
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void skipsCapturingLambdas() {
+        PlaceholderCache cache = new PlaceholderCache();
+        cache.enable(60, 16);
+        AtomicInteger resolutions = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++)
+            assertEquals("Hello Steve", cache.resolve(null, "Hello %name%", capturing(resolutions)));
+
+        assertEquals(3, resolutions.get());
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    private static BiFunction<@Nullable Player, String, String> capturing(AtomicInteger resolutions) {
+        return (player, text) -> {
+            resolutions.incrementAndGet();
+            return text.replace("%name%", "Steve");
+        };
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.elvenide.core.providers.text;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SerializationCacheTest {
+
+    @Test
+    void cachesEachFormatByIdentity() {
+        SerializationCache cache = new SerializationCache();
+        AtomicInteger serializations = new AtomicInteger();
+        Component component = Component.text("Hello");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("plain", cache.serialize(component, SerializationCache.Format.PLAIN, c -> { serializations.incrementAndGet(); return "plain"; }));
+            assertEquals("legacy", cache.serialize(component, SerializationCache.Format.LEGACY, c -> { serializations.incrementAndGet(); return "legacy"; }));
+        }
+
+        // An equal but distinct component is cached separately
+        cache.serialize(Component.text("Hello"), SerializationCache.Format.PLAIN, c -> { serializations.incrementAndGet(); return "plain"; });
+
+        assertEquals(3, serializations.get());
+        assertEquals(4, cache.hits());
+        assertEquals(3, cache.misses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void disabledWhenEmpty() {
+        SerializationCache cache = new SerializationCache();
+        cache.setMaxSize(0);
+        Component component = Component.text("Hello");
+
+        cache.serialize(component, SerializationCache.Format.PLAIN, c -> "plain");
+        cache.serialize(component, SerializationCache.Format.PLAIN, c -> "plain");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hits());
+    }
+
+    @Test
+    void concurrentSerializationIsCorrect() throws Exception {
+        SerializationCache cache = new SerializationCache();
+        cache.setMaxSize(32);
+
+        List<Component> components = new ArrayList<>();
+        for (int i = 0; i < 64; i++)
+            components.add(Component.text("Component " + i));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int index = i % components.size();
+                        SerializationCache.Format format = SerializationCache.Format.values()[i % 3];
+                        String value = cache.serialize(components.get(index), format, c -> format + ":" + index);
+                        assertEquals(format + ":" + index, value);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(80_000, cache.hits() + cache.misses());
+    }
+
+}
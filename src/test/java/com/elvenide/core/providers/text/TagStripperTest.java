@@ -0,0 +1,66 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TagStripperTest {
+
+    static {
+        Core.text.addColorTag("strip_test_color", "#123456");
+        Core.text.addTextTag("strip_test_text", "Hello");
+    }
+
+    private static final String[] INPUTS = {
+        "plain text",
+        "<red>Red</red>",
+        "<RED>Upper case</RED>",
+        "<bold><red>Nested</red> tags</bold>",
+        "<b><i>Misnested</b></i>",
+        "<red>Unclosed tag",
+        "Unterminated <red",
+        "\\<red>Escaped tag",
+        "Escaped \\\\<red>backslash",
+        "Escaped \\</red> closing tag",
+        "<unknown>Unknown tag</unknown>",
+        "<gradient:red:blue>Gradient</gradient>",
+        "<egradient:red:blue>Egradient</egradient>",
+        "<hover:show_text:'<red>quoted'>Hover</hover>",
+        "<hover:show_text:\"<red>double\">Hover</hover>",
+        "<insert:'a:b'>Insert",
+        "<!italic>Negated",
+        "<red/>Self-closing<br/>",
+        "<#ff0000>Hex color",
+        "<pre><red>Preformatted</red></pre> <red>after",
+        "<red>a</>b<//>c",
+        "a < b > c",
+        "<>",
+        "&cLegacy §lcodes",
+        "&#123456Legacy hex",
+    };
+
+    /// MiniMessage's stripping, which this scanner replaced, applied after converting legacy codes to tags
+    private static String previous(String text) {
+        return TextProvider.resolver().stripTags(LegacyColorConverter.convert(text));
+    }
+
+    @Test
+    void matchesMiniMessageStripping() {
+        for (String input : INPUTS)
+            assertEquals(previous(input), Core.text.stripTags(input), input);
+    }
+
+    @Test
+    void stripsCustomTags() {
+        assertEquals("Colored text", Core.text.stripTags("<strip_test_color>Colored</strip_test_color> <strip_test_text>text"));
+    }
+
+    @Test
+    void returnsTextWithoutTagsUnchanged() {
+        String text = "nothing to strip";
+        assertSame(text, Core.text.stripTags(text));
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.elvenide.core.providers.text;
+
+import com.elvenide.core.Core;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextProviderConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2_000;
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    /// Gets the first color found in a component tree, depth-first
+    private static TextColor firstColor(Component component) {
+        if (component.color() != null)
+            return component.color();
+
+        for (Component child : component.children()) {
+            TextColor color = firstColor(child);
+            if (color != null)
+                return color;
+        }
+        return null;
+    }
+
+    @Test
+    void rendersConsistentlyWhileTagsAreAdded() throws Exception {
+        Core.text.addColorTag("stress_color", "#123456");
+        Core.text.addTextTag("stress_text", "Hello");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            // Keep adding tags while rendering, which changes the resolver version and invalidates cached templates
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    Core.text.addTextTag("stress_added_" + i, "Added " + i);
+                    Core.text.addColorTag("stress_added_color_" + i, "#00ff00");
+                }
+                return null;
+            }));
+
+            for (int thread = 0; thread < THREADS; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        Component fixed = Core.text.from("<stress_color><stress_text>, world!");
+                        assertEquals("Hello, world!", plain(fixed));
+                        assertEquals(TextColor.fromHexString("#123456"), firstColor(fixed));
+
+                        Component placeholders = Core.text.from("<stress_text> {}, you have %d coins", "Player" + id, i);
+                        assertEquals("Hello Player" + id + ", you have " + i + " coins", plain(placeholders));
+
+                        assertEquals("Player" + id + ": " + i, Core.text.format("{}: %d", "Player" + id, i));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals("Added 199", plain(Core.text.from("<stress_added_199>")));
+    }
+
+}